@@ -0,0 +1,77 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.md_5.bungee.api.ChatColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.util.bukkit.component.Component;
+import tc.oc.util.bukkit.component.ComponentRenderers;
+import tc.oc.util.bukkit.component.types.PersonalizedText;
+
+/**
+ * Rendering of nested, formatted text components, like chat messages and scoreboard lines. There is
+ * no viewer, since plain text renders the same for everyone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentBenchmark {
+
+  private static final ChatColor[] FORMATS = {
+    ChatColor.RED, ChatColor.BLUE, ChatColor.GOLD, ChatColor.GRAY, ChatColor.BOLD, ChatColor.ITALIC
+  };
+
+  @Param({"1", "2", "3"})
+  public int depth;
+
+  @Param({"2", "4", "8"})
+  public int width;
+
+  private Component component;
+
+  private Component createTree(Random random, int depth) {
+    final Component text =
+        new PersonalizedText(
+            Integer.toHexString(random.nextInt()), FORMATS[random.nextInt(FORMATS.length)]);
+    if (depth == 0) {
+      return text;
+    }
+
+    final List<Component> children = new ArrayList<>(width);
+    for (int i = 0; i < width; i++) {
+      children.add(createTree(random, depth - 1));
+    }
+    // Render the children without a viewer, since the console needs a server
+    return text.extra(children, null);
+  }
+
+  @Setup
+  public void setup() {
+    component = createTree(new Random(1), depth);
+  }
+
+  @Benchmark
+  public String toLegacyText() {
+    return ComponentRenderers.toLegacyText(component, null);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return ComponentRenderers.toJson(component, null);
+  }
+}
@@ -0,0 +1,33 @@
+package tc.oc.pgm.benchmarks;
+
+import javax.annotation.Nullable;
+import org.bukkit.Location;
+import org.bukkit.event.Event;
+import tc.oc.pgm.api.filter.query.LocationQuery;
+import tc.oc.pgm.api.match.Match;
+
+/**
+ * A query about a location, without a world, match or event, so it can be made without a server.
+ */
+class FakeLocationQuery implements LocationQuery {
+  private final Location location;
+
+  FakeLocationQuery(double x, double y, double z) {
+    this.location = new Location(null, x, y, z);
+  }
+
+  @Override
+  public Location getLocation() {
+    return location;
+  }
+
+  @Override
+  public @Nullable Match getMatch() {
+    return null;
+  }
+
+  @Override
+  public @Nullable Event getEvent() {
+    return null;
+  }
+}
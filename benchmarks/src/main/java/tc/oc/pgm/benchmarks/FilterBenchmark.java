@@ -0,0 +1,87 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.pgm.api.filter.Filter;
+import tc.oc.pgm.api.filter.query.Query;
+import tc.oc.pgm.filters.AllFilter;
+import tc.oc.pgm.filters.AnyFilter;
+import tc.oc.pgm.filters.InverseFilter;
+import tc.oc.pgm.filters.StaticFilter;
+
+/**
+ * Queries on trees of nested filters, built from regions and static filters, like those found in
+ * maps with many region rules.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+  private static final int QUERIES = 1024; // Must be a power of 2
+  private static final String[] REGIONS = {"cuboid", "cylinder", "sphere", "union", "complement"};
+
+  @Param({"2", "4"})
+  public int depth;
+
+  @Param({"2", "4", "8"})
+  public int width;
+
+  private Filter filter;
+  private final Query[] queries = new Query[QUERIES];
+  private int index;
+
+  private Filter createTree(Random random, int depth) {
+    if (depth == 0) {
+      switch (random.nextInt(4)) {
+        case 0:
+          return random.nextBoolean() ? StaticFilter.ALLOW : StaticFilter.ABSTAIN;
+        case 1:
+          return new InverseFilter(RegionBenchmark.createRegion(REGIONS[random.nextInt(3)]));
+        default:
+          return RegionBenchmark.createRegion(REGIONS[random.nextInt(REGIONS.length)]);
+      }
+    }
+
+    final List<Filter> children = new ArrayList<>(width);
+    for (int i = 0; i < width; i++) {
+      children.add(createTree(random, depth - 1));
+    }
+    return depth % 2 == 0 ? new AllFilter(children) : new AnyFilter(children);
+  }
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+    filter = createTree(random, depth);
+
+    for (int i = 0; i < QUERIES; i++) {
+      queries[i] =
+          new FakeLocationQuery(
+              random.nextDouble() * 80 - 40,
+              random.nextDouble() * 48 - 8,
+              random.nextDouble() * 80 - 40);
+    }
+  }
+
+  @Benchmark
+  public Filter.QueryResponse query() {
+    return filter.query(queries[index++ & (QUERIES - 1)]);
+  }
+}
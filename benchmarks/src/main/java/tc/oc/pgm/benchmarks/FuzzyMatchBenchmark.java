@@ -0,0 +1,94 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.util.LiquidMetal;
+import tc.oc.util.StringUtils;
+import tc.oc.util.collection.NameIndex;
+
+/**
+ * Fuzzy matching of abbreviations against names, as commands do for maps and players, with and
+ * without a {@link NameIndex}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyMatchBenchmark {
+
+  private static final String[] SYLLABLES = {
+    "ra", "ge", "tor", "ex", "cap", "ture", "the", "wool", "blo", "ck", "mine", "craft", "ar", "en",
+    "a", "fort", "ress", "val", "ley", "sky"
+  };
+
+  @Param({"100", "1000"})
+  public int names;
+
+  private List<String> options;
+  private final NameIndex<String> nameIndex = new NameIndex<>();
+  private String[] searches;
+  private int index;
+
+  private static String randomName(Random random) {
+    final StringBuilder name = new StringBuilder();
+    final int length = 2 + random.nextInt(4);
+    for (int i = 0; i < length; i++) {
+      name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+    }
+    return name.toString();
+  }
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+    options = new ArrayList<>(names);
+    for (int i = 0; i < names; i++) {
+      options.add(randomName(random));
+    }
+    for (String option : options) {
+      nameIndex.add(option, option);
+    }
+
+    searches = new String[64];
+    for (int i = 0; i < searches.length; i++) {
+      final String name = options.get(random.nextInt(names));
+      searches[i] = name.substring(0, 1 + random.nextInt(name.length()));
+    }
+  }
+
+  @Benchmark
+  public double score() {
+    final String search = searches[index++ & 63];
+    return LiquidMetal.score(options.get(index % names), search);
+  }
+
+  @Benchmark
+  public String bestFuzzyMatch() {
+    return StringUtils.bestFuzzyMatch(searches[index++ & 63], options, 0.9);
+  }
+
+  @Benchmark
+  public String nameIndexFuzzyMatch() {
+    return nameIndex.bestFuzzyMatch(searches[index++ & 63], 0.9);
+  }
+
+  @Benchmark
+  public List<String> nameIndexPrefix() {
+    return nameIndex.getByPrefix(searches[index++ & 63]);
+  }
+}
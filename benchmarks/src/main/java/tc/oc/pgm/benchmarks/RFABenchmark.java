@@ -0,0 +1,115 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.pgm.api.filter.Filter;
+import tc.oc.pgm.filters.InverseFilter;
+import tc.oc.pgm.filters.StaticFilter;
+import tc.oc.pgm.regions.RFAContext;
+import tc.oc.pgm.regions.RFAScope;
+import tc.oc.pgm.regions.RegionFilterApplication;
+import tc.oc.pgm.regions.TranslatedRegion;
+import tc.oc.util.bukkit.component.Component;
+
+/**
+ * Scans of region filter applications for one scope, the way block and movement events look for the
+ * first rule that applies to a location.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RFABenchmark {
+
+  private static final int POINTS = 1024; // Must be a power of 2
+  private static final String[] REGIONS = {"cuboid", "cylinder", "sphere", "union", "complement"};
+  private static final RFAScope[] SCOPES = {
+    RFAScope.BLOCK_PLACE, RFAScope.BLOCK_BREAK, RFAScope.PLAYER_ENTER, RFAScope.USE
+  };
+
+  @Param({"16", "64", "256"})
+  public int count;
+
+  private RFAContext context;
+  private final Vector[] vectors = new Vector[POINTS];
+  private final FakeLocationQuery[] queries = new FakeLocationQuery[POINTS];
+  private int index;
+
+  private Filter createFilter(Random random) {
+    switch (random.nextInt(4)) {
+      case 0:
+        return StaticFilter.DENY;
+      case 1:
+        return StaticFilter.ABSTAIN;
+      case 2:
+        return new InverseFilter(RegionBenchmark.createRegion(REGIONS[random.nextInt(3)]));
+      default:
+        return RegionBenchmark.createRegion(REGIONS[random.nextInt(REGIONS.length)]);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+
+    // Spread the regions over a map sized area, so most points are only in a few of them
+    context = new RFAContext();
+    for (int i = 0; i < count; i++) {
+      context.add(
+          new RegionFilterApplication(
+              SCOPES[random.nextInt(SCOPES.length)],
+              new TranslatedRegion(
+                  RegionBenchmark.createRegion(REGIONS[random.nextInt(REGIONS.length)]),
+                  new Vector(random.nextInt(256) - 128, 0, random.nextInt(256) - 128)),
+              createFilter(random),
+              (Component) null,
+              false));
+    }
+
+    for (int i = 0; i < POINTS; i++) {
+      final double x = random.nextDouble() * 288 - 144;
+      final double y = random.nextDouble() * 48 - 8;
+      final double z = random.nextDouble() * 288 - 144;
+      vectors[i] = new Vector(x, y, z);
+      queries[i] = new FakeLocationQuery(x, y, z);
+    }
+  }
+
+  @Benchmark
+  public RegionFilterApplication scan() {
+    final int i = index++ & (POINTS - 1);
+    for (RegionFilterApplication rfa : context.get(RFAScope.BLOCK_PLACE)) {
+      if (rfa.region.contains(vectors[i])
+          && rfa.filter.query(queries[i]) != Filter.QueryResponse.ABSTAIN) {
+        return rfa;
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public int scanAll() {
+    final int i = index++ & (POINTS - 1);
+    int matched = 0;
+    for (RegionFilterApplication rfa : context.getAll()) {
+      if (rfa.region.contains(vectors[i])) {
+        matched++;
+      }
+    }
+    return matched;
+  }
+}
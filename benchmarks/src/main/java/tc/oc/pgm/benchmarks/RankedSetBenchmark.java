@@ -0,0 +1,77 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.util.collection.RankedSet;
+
+/**
+ * Re-ranking a {@link RankedSet} after one element changes its score, as happens to competitors
+ * each time a point is scored.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankedSetBenchmark {
+
+  private static class Competitor {
+    private int score;
+  }
+
+  private static final Comparator<Competitor> BY_SCORE =
+      (a, b) -> Integer.compare(b.score, a.score);
+
+  @Param({"2", "16", "128"})
+  public int size;
+
+  private RankedSet<Competitor> ranked;
+  private Competitor[] competitors;
+  private Random random;
+
+  @Setup
+  public void setup() {
+    random = new Random(1);
+    ranked = new RankedSet<>(BY_SCORE);
+    competitors = new Competitor[size];
+    for (int i = 0; i < size; i++) {
+      competitors[i] = new Competitor();
+      competitors[i].score = random.nextInt(10);
+      ranked.add(competitors[i]);
+    }
+  }
+
+  @Benchmark
+  public int scoreAndRank() {
+    final Competitor scorer = competitors[random.nextInt(size)];
+    scorer.score++;
+    ranked.invalidateRanking();
+    return ranked.getPosition(scorer);
+  }
+
+  @Benchmark
+  public int scoreAndReposition() {
+    final Competitor scorer = competitors[random.nextInt(size)];
+    scorer.score++;
+    ranked.invalidateRanking(scorer);
+    return ranked.getPosition(scorer);
+  }
+
+  @Benchmark
+  public int rankUnchanged() {
+    return ranked.getPosition(competitors[random.nextInt(size)]);
+  }
+}
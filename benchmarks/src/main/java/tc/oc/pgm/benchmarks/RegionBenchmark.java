@@ -0,0 +1,144 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.pgm.api.region.Region;
+import tc.oc.pgm.regions.BlockRegion;
+import tc.oc.pgm.regions.CircleRegion;
+import tc.oc.pgm.regions.Complement;
+import tc.oc.pgm.regions.CuboidRegion;
+import tc.oc.pgm.regions.CylindricalRegion;
+import tc.oc.pgm.regions.HalfspaceRegion;
+import tc.oc.pgm.regions.Intersect;
+import tc.oc.pgm.regions.MirroredRegion;
+import tc.oc.pgm.regions.NegativeRegion;
+import tc.oc.pgm.regions.PointRegion;
+import tc.oc.pgm.regions.RectangleRegion;
+import tc.oc.pgm.regions.SectorRegion;
+import tc.oc.pgm.regions.SphereRegion;
+import tc.oc.pgm.regions.TranslatedRegion;
+import tc.oc.pgm.regions.Union;
+
+/** Containment checks on every type of region, for random points around the origin. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegionBenchmark {
+
+  private static final int POINTS = 1024; // Must be a power of 2
+
+  @Param({
+    "cuboid",
+    "cylinder",
+    "sphere",
+    "circle",
+    "rectangle",
+    "sector",
+    "halfspace",
+    "block",
+    "point",
+    "union",
+    "intersect",
+    "complement",
+    "negative",
+    "translated",
+    "mirrored"
+  })
+  public String type;
+
+  private Region region;
+  private final double[] coords = new double[POINTS * 3];
+  private final Vector[] vectors = new Vector[POINTS];
+  private int index;
+
+  static Region createRegion(String type) {
+    switch (type) {
+      case "cuboid":
+        return new CuboidRegion(new Vector(-16, 0, -16), new Vector(16, 32, 16));
+      case "cylinder":
+        return new CylindricalRegion(new Vector(0, 0, 0), 16, 32);
+      case "sphere":
+        return new SphereRegion(new Vector(0, 16, 0), 16);
+      case "circle":
+        return new CircleRegion(0, 0, 16);
+      case "rectangle":
+        return new RectangleRegion(-16, -16, 16, 16);
+      case "sector":
+        return new SectorRegion(0, 0, 0, Math.PI / 2);
+      case "halfspace":
+        return new HalfspaceRegion(new Vector(0, 16, 0), new Vector(0, 1, 0));
+      case "block":
+        return new BlockRegion(new Vector(1, 1, 1));
+      case "point":
+        return new PointRegion(new Vector(1, 1, 1));
+      case "union":
+        return new Union(
+            new CuboidRegion(new Vector(-32, 0, -32), new Vector(-16, 32, -16)),
+            new CuboidRegion(new Vector(16, 0, 16), new Vector(32, 32, 32)),
+            new SphereRegion(new Vector(0, 16, 0), 8),
+            new CylindricalRegion(new Vector(24, 0, -24), 8, 32));
+      case "intersect":
+        return new Intersect(
+            new CuboidRegion(new Vector(-16, 0, -16), new Vector(16, 32, 16)),
+            new SphereRegion(new Vector(0, 16, 0), 20));
+      case "complement":
+        return new Complement(
+            new CuboidRegion(new Vector(-16, 0, -16), new Vector(16, 32, 16)),
+            new SphereRegion(new Vector(0, 16, 0), 8));
+      case "negative":
+        return new NegativeRegion(new SphereRegion(new Vector(0, 16, 0), 16));
+      case "translated":
+        return new TranslatedRegion(
+            new CuboidRegion(new Vector(-16, 0, -16), new Vector(16, 32, 16)), new Vector(8, 0, 8));
+      case "mirrored":
+        return new MirroredRegion(
+            new CuboidRegion(new Vector(0, 0, 0), new Vector(16, 32, 16)),
+            new Vector(0, 0, 0),
+            new Vector(1, 0, 0));
+      default:
+        throw new IllegalArgumentException("Unknown region type " + type);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    region = createRegion(type);
+
+    final Random random = new Random(1);
+    for (int i = 0; i < POINTS; i++) {
+      final double x = random.nextDouble() * 80 - 40;
+      final double y = random.nextDouble() * 48 - 8;
+      final double z = random.nextDouble() * 80 - 40;
+      coords[i * 3] = x;
+      coords[i * 3 + 1] = y;
+      coords[i * 3 + 2] = z;
+      vectors[i] = new Vector(x, y, z);
+    }
+  }
+
+  @Benchmark
+  public boolean containsCoordinates() {
+    final int i = (index++ & (POINTS - 1)) * 3;
+    return region.contains(coords[i], coords[i + 1], coords[i + 2]);
+  }
+
+  @Benchmark
+  public boolean containsVector() {
+    return region.contains(vectors[index++ & (POINTS - 1)]);
+  }
+}
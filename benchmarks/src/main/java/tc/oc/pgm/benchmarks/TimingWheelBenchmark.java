@@ -0,0 +1,67 @@
+package tc.oc.pgm.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tc.oc.util.collection.TimingWheel;
+
+/**
+ * Scheduling, cancelling and advancing a {@link TimingWheel} that already holds many tasks, like
+ * the match schedulers do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+  private static class Task extends TimingWheel.Entry {
+    private final long period;
+
+    private Task(long period) {
+      this.period = period;
+    }
+  }
+
+  @Param({"100", "10000"})
+  public int tasks;
+
+  private TimingWheel<Task> wheel;
+  private Random random;
+
+  @Setup
+  public void setup() {
+    random = new Random(1);
+    wheel = new TimingWheel<>();
+    for (int i = 0; i < tasks; i++) {
+      final Task task = new Task(1 + random.nextInt(200));
+      wheel.schedule(task, task.period);
+    }
+  }
+
+  @Benchmark
+  public boolean scheduleAndCancel() {
+    final Task task = new Task(1);
+    wheel.schedule(task, 1 + random.nextInt(20 * 60 * 20));
+    return wheel.remove(task);
+  }
+
+  @Benchmark
+  public int advance() {
+    // Periodic tasks are scheduled again, so the size of the wheel stays the same
+    wheel.advance(task -> wheel.schedule(task, task.period));
+    return wheel.size();
+  }
+}
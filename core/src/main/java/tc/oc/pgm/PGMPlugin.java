@@ -19,6 +19,7 @@ import javax.annotation.Nullable;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
+import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.PluginLoader;
@@ -64,6 +65,7 @@ import tc.oc.pgm.commands.provider.DurationProvider;
 import tc.oc.pgm.commands.provider.MapInfoProvider;
 import tc.oc.pgm.commands.provider.MatchPlayerProvider;
 import tc.oc.pgm.commands.provider.MatchProvider;
+import tc.oc.pgm.commands.provider.PlayerProvider;
 import tc.oc.pgm.commands.provider.SettingKeyProvider;
 import tc.oc.pgm.commands.provider.TeamMatchModuleProvider;
 import tc.oc.pgm.commands.provider.VectorProvider;
@@ -106,6 +108,7 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
   private MatchTabManager matchTabManager;
   private MapOrder mapOrder;
   private PrefixRegistry prefixRegistry;
+  private ChatDispatcher chatDispatcher;
 
   public PGMPlugin() {
     super();
@@ -204,12 +207,21 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
   @Override
   public void onDisable() {
     if (matchTabManager != null) matchTabManager.disable();
+    if (chatDispatcher != null) chatDispatcher.shutdown();
     if (matchManager != null) matchManager.getMatches().forEachRemaining(Match::unload);
+    if (datastore instanceof DatastoreCacheImpl) {
+      try {
+        ((DatastoreCacheImpl) datastore).close();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
     datastore = null;
     mapLibrary = null;
     matchManager = null;
     matchTabManager = null;
     prefixRegistry = null;
+    chatDispatcher = null;
 
     // Sometimes match folders need to be cleaned up due to de-syncs
     for (File dir : getServer().getWorldContainer().listFiles()) {
@@ -282,6 +294,7 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
     private void configureProviders() {
       final MatchPlayerProvider playerProvider = new MatchPlayerProvider(getMatchManager());
       bind(MatchPlayer.class).toProvider(playerProvider);
+      bind(Player.class).toProvider(new PlayerProvider(getMatchManager()));
       bind(Audience.class).toProvider(new AudienceProvider(playerProvider));
       bind(Match.class).toProvider(new MatchProvider(getMatchManager()));
       bind(MapInfo.class)
@@ -298,9 +311,9 @@ public class PGMPlugin extends JavaPlugin implements PGM, Listener {
     BasicBukkitCommandGraph graph = new BasicBukkitCommandGraph(new CommandModule());
     DispatcherNode node = graph.getRootDispatcherNode();
 
-    final ChatDispatcher chat = new ChatDispatcher(getMatchManager());
-    node.registerCommands(chat);
-    registerEvents(chat);
+    chatDispatcher = new ChatDispatcher(getMatchManager());
+    node.registerCommands(chatDispatcher);
+    registerEvents(chatDispatcher);
 
     node.registerCommands(new MapCommands());
     node.registerCommands(new CycleCommands());
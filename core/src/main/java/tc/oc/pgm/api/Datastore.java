@@ -31,4 +31,21 @@ public interface Datastore {
    * @return A {@link MapActivity}.
    */
   MapActivity getMapActivity(String poolName);
+
+  /**
+   * Load everything stored for a player, so it can be read without blocking while they are online.
+   *
+   * <p>This blocks until the data is loaded, so it should be called off the main thread, such as
+   * when the player is logging in.
+   *
+   * @param uuid The {@link UUID} of a player.
+   */
+  default void loadPlayer(UUID uuid) {}
+
+  /**
+   * Release the data loaded by {@link #loadPlayer(UUID)}, after saving any changes to it.
+   *
+   * @param uuid The {@link UUID} of a player.
+   */
+  default void unloadPlayer(UUID uuid) {}
 }
@@ -81,6 +81,7 @@ import tc.oc.pgm.modules.ModifyBowProjectileModule;
 import tc.oc.pgm.modules.MultiTradeMatchModule;
 import tc.oc.pgm.modules.PlayableRegionMatchModule;
 import tc.oc.pgm.modules.PlayableRegionModule;
+import tc.oc.pgm.modules.PlayerNameMatchModule;
 import tc.oc.pgm.modules.SoundsMatchModule;
 import tc.oc.pgm.modules.StatsMatchModule;
 import tc.oc.pgm.modules.TimeLockModule;
@@ -97,6 +98,7 @@ import tc.oc.pgm.proximity.ProximityAlarmModule;
 import tc.oc.pgm.rage.RageMatchModule;
 import tc.oc.pgm.rage.RageModule;
 import tc.oc.pgm.regions.RegionMatchModule;
+import tc.oc.pgm.regions.RegionMembershipMatchModule;
 import tc.oc.pgm.regions.RegionModule;
 import tc.oc.pgm.renewable.RenewableMatchModule;
 import tc.oc.pgm.renewable.RenewableModule;
@@ -116,6 +118,7 @@ import tc.oc.pgm.timelimit.TimeLimitModule;
 import tc.oc.pgm.tnt.TNTMatchModule;
 import tc.oc.pgm.tnt.TNTModule;
 import tc.oc.pgm.tracker.TrackerMatchModule;
+import tc.oc.pgm.visibility.VisibilityMatchModule;
 import tc.oc.pgm.wool.WoolMatchModule;
 import tc.oc.pgm.wool.WoolModule;
 import tc.oc.pgm.worldborder.WorldBorderMatchModule;
@@ -160,6 +163,9 @@ public interface Modules {
     register(ObserverToolsMatchModule.class, new ObserverToolsMatchModule.Factory());
     register(FireworkMatchModule.class, FireworkMatchModule::new);
     register(StatsMatchModule.class, StatsMatchModule::new);
+    register(RegionMembershipMatchModule.class, RegionMembershipMatchModule::new);
+    register(VisibilityMatchModule.class, VisibilityMatchModule::new);
+    register(PlayerNameMatchModule.class, PlayerNameMatchModule::new);
 
     // Community MatchModules
     register(FreezeMatchModule.class, FreezeMatchModule::new);
@@ -27,6 +27,7 @@ import tc.oc.pgm.api.time.Tick;
 import tc.oc.pgm.countdowns.CountdownContext;
 import tc.oc.pgm.features.MatchFeatureContext;
 import tc.oc.pgm.filters.query.Query;
+import tc.oc.pgm.ticker.MatchTicker;
 import tc.oc.util.bukkit.Scheduler;
 import tc.oc.util.bukkit.chat.MultiAudience;
 
@@ -194,6 +195,15 @@ public interface Match extends MatchPlayerResolver, MultiAudience, ModuleContext
    */
   Scheduler getScheduler(MatchScope scope);
 
+  /**
+   * Get the {@link MatchTicker} that drives countdowns and hotbar messages for the {@link Match}.
+   *
+   * <p>It is available as soon as the {@link Match} is created, and is cleared when it unloads.
+   *
+   * @return The {@link MatchTicker}.
+   */
+  MatchTicker getTicker();
+
   /**
    * Sends an {@link Event} to the {@link Bukkit} event-bus.
    *
@@ -292,6 +302,15 @@ public interface Match extends MatchPlayerResolver, MultiAudience, ModuleContext
    */
   Collection<MatchPlayer> getParticipants();
 
+  /**
+   * Get a counter that changes whenever the players, parties or competitors of the {@link Match}
+   * change. The collections returned by {@link #getPlayers()} and its siblings are immutable
+   * snapshots, so data derived from them can be cached until this counter changes.
+   *
+   * @return The membership version.
+   */
+  long getMembershipVersion();
+
   /**
    * Add a {@link Player} to the {@link Match}.
    *
@@ -337,6 +356,25 @@ public interface Match extends MatchPlayerResolver, MultiAudience, ModuleContext
    */
   boolean setParty(MatchPlayer player, Party party);
 
+  /**
+   * Run a task that changes the {@link Party} of many {@link MatchPlayer}s at once, such as when
+   * the join queue is moved onto teams.
+   *
+   * <p>Party change events are still called for each {@link MatchPlayer}, but they are marked as
+   * batched, and a single {@link tc.oc.pgm.events.PlayerPartyChangeBatchEvent} is called after the
+   * task. Nested batches are merged into the outermost one.
+   *
+   * @param changes The task that changes parties.
+   */
+  void batchPartyChanges(Runnable changes);
+
+  /**
+   * Get whether the {@link Match} is in the middle of {@link #batchPartyChanges(Runnable)}.
+   *
+   * @return Whether party changes are being batched.
+   */
+  boolean isBatchingPartyChanges();
+
   /**
    * Add a {@link Party} to the {@link Match}.
    *
@@ -393,4 +431,14 @@ public interface Match extends MatchPlayerResolver, MultiAudience, ModuleContext
    * @return If the {@link Match} was just ended.
    */
   boolean calculateVictory();
+
+  /**
+   * Calculate whether a {@link VictoryCondition} has been meet, after a change that can only affect
+   * how a single {@link Competitor} is ranked, such as its score.
+   *
+   * @param competitor The {@link Competitor} whose ranking may have changed.
+   * @return If the {@link Match} was just ended.
+   * @see #calculateVictory()
+   */
+  boolean calculateVictory(Competitor competitor);
 }
@@ -2,11 +2,18 @@ package tc.oc.pgm.api.module;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import tc.oc.pgm.api.module.exception.ModuleLoadException;
@@ -17,11 +24,13 @@ public abstract class ModuleGraph<M extends Module, F extends ModuleFactory<M>>
 
   private final AtomicBoolean loaded;
   private final Map<Class<? extends M>, F> factories;
+  private final Set<Class<? extends M>> skipped; // Created nothing, so not created again
   private Map<Class<? extends M>, M> modules;
 
   public ModuleGraph(Map factories) {
     this.loaded = new AtomicBoolean(true); // unloadAll will change to false
     this.factories = factories; // No copies since every graph would be duplicated
+    this.skipped = ConcurrentHashMap.newKeySet();
     unloadAll();
   }
 
@@ -54,9 +63,132 @@ public abstract class ModuleGraph<M extends Module, F extends ModuleFactory<M>>
     }
   }
 
+  /**
+   * Loads all {@link Module}s like {@link #loadAll()}, but creates those that do not depend on each
+   * other at the same time.
+   *
+   * <p>Factories are sorted into levels up front, where each level only depends on the levels
+   * before it, and each level is forked into the pool of the calling thread. Implementations must
+   * be able to create {@link Module}s from multiple threads, and factories must declare every
+   * {@link Module} whose results they read as a dependency.
+   *
+   * @throws ModuleLoadException If any {@link Module} fails to load.
+   */
+  protected void loadAllConcurrently() throws ModuleLoadException {
+    if (!loaded.compareAndSet(false, true)) return;
+
+    try {
+      modules = new ConcurrentHashMap<>(factories.size());
+
+      for (List<Class<? extends M>> level : getLevels()) {
+        final List<LoadTask> tasks = new ArrayList<>(level.size());
+        for (Class<? extends M> key : level) {
+          tasks.add(new LoadTask(key));
+        }
+
+        ForkJoinTask.invokeAll(tasks);
+
+        for (LoadTask task : tasks) {
+          if (task.error != null) throw task.error;
+        }
+      }
+
+      modules = Collections.unmodifiableMap(modules);
+    } catch (ModuleLoadException e) {
+      unloadAll();
+      throw e;
+    }
+  }
+
+  /** Loads a {@link Module} that does not depend on any other in its level. */
+  private class LoadTask extends RecursiveAction {
+    private final Class<? extends M> key;
+    private final Stack<ModuleLoadException> errors = new Stack<>(); // Not shared with other tasks
+    private @Nullable ModuleLoadException error;
+
+    private LoadTask(Class<? extends M> key) {
+      this.key = key;
+    }
+
+    @Override
+    protected void compute() {
+      try {
+        load(key, null, errors);
+      } catch (ModuleLoadException e) {
+        error = e;
+      }
+
+      if (error == null && !errors.isEmpty()) {
+        error = errors.firstElement();
+      }
+    }
+  }
+
+  /**
+   * Sorts every registered factory by the length of its longest dependency chain.
+   *
+   * @return A list of levels, where each level only depends on the levels before it.
+   * @throws ModuleLoadException If a dependency is not registered or is circular.
+   */
+  private List<List<Class<? extends M>>> getLevels() throws ModuleLoadException {
+    final Map<Class<? extends M>, Integer> depths = new HashMap<>(factories.size());
+    for (Class<? extends M> key : factories.keySet()) {
+      getDepth(key, null, depths, new HashSet<>());
+    }
+
+    final List<List<Class<? extends M>>> levels = new ArrayList<>();
+    for (Map.Entry<Class<? extends M>, Integer> entry : depths.entrySet()) {
+      while (levels.size() <= entry.getValue()) {
+        levels.add(new ArrayList<>());
+      }
+      levels.get(entry.getValue()).add(entry.getKey());
+    }
+
+    return levels;
+  }
+
+  private int getDepth(
+      Class<? extends M> key,
+      @Nullable Class<? extends M> requiredBy,
+      Map<Class<? extends M>, Integer> depths,
+      Set<Class<? extends M>> visiting)
+      throws ModuleLoadException {
+    final Integer depth = depths.get(key);
+    if (depth != null) {
+      return depth;
+    }
+
+    final F factory = getFactory(key, requiredBy);
+    if (!visiting.add(key)) {
+      throw new ModuleLoadException(key, "Required itself (is there a circular dependency?)");
+    }
+
+    int maxDepth = 0;
+    for (Class<? extends M> dependency : getDependencies(factory)) {
+      maxDepth = Math.max(maxDepth, getDepth(dependency, key, depths, visiting) + 1);
+    }
+
+    visiting.remove(key);
+    depths.put(key, maxDepth);
+
+    return maxDepth;
+  }
+
+  private List<Class<? extends M>> getDependencies(F factory) {
+    final List<Class<? extends M>> dependencies = new ArrayList<>();
+    final Collection<Class<? extends M>> hardDependencies = factory.getHardDependencies();
+    if (hardDependencies != null) dependencies.addAll(hardDependencies);
+    final Collection<Class<? extends M>> softDependencies = factory.getSoftDependencies();
+    if (softDependencies != null) dependencies.addAll(softDependencies);
+    final Collection<Class<? extends M>> weakDependencies = factory.getWeakDependencies();
+    if (weakDependencies != null) dependencies.addAll(weakDependencies);
+    return dependencies;
+  }
+
   protected void unloadAll() {
     if (loaded.compareAndSet(true, false)) {
       modules = new HashMap<>(factories.size());
+      skipped.clear();
     }
   }
 
@@ -108,6 +240,8 @@ public abstract class ModuleGraph<M extends Module, F extends ModuleFactory<M>>
 
     if (modules.containsKey(key)) {
       return true;
+    } else if (skipped.contains(key)) {
+      return false;
     }
 
     final Collection<Class<? extends M>> hardDependencies = factory.getHardDependencies();
@@ -156,6 +290,7 @@ public abstract class ModuleGraph<M extends Module, F extends ModuleFactory<M>>
     }
 
     if (module == null) {
+      skipped.add(key);
       return false;
     }
 
@@ -55,6 +55,15 @@ public interface MatchPlayer extends Audience, Named, Tickable, InventoryHolder
    */
   UUID getId();
 
+  /**
+   * Get the slot of the {@link MatchPlayer}, a small number that no other player in the {@link
+   * Match} has at the same time. Slots are reused after players leave.
+   *
+   * @return The slot, starting at zero.
+   * @see tc.oc.pgm.util.PlayerSlotMap
+   */
+  int getSlot();
+
   /**
    * Take a "snapshot" of the current {@link MatchPlayer} and return its {@link MatchPlayerState}.
    *
@@ -159,7 +168,10 @@ public interface MatchPlayer extends Audience, Named, Tickable, InventoryHolder
   /** Reset the {@link #getInventory()} of the {@link MatchPlayer}. */
   void resetInventory();
 
-  /** Reset the {@link #canSee(MatchPlayer)} visibility of other {@link MatchPlayer}s. */
+  /**
+   * Reset the {@link #canSee(MatchPlayer)} visibility of other {@link MatchPlayer}s, in both
+   * directions. Only changes are sent, once per tick.
+   */
   void resetVisibility();
 
   /** Reset all {@link Player} state related to the {@link MatchPlayer}. */
@@ -16,6 +16,12 @@ public interface Region extends Filter {
   /** Test if the region contains the given point */
   boolean contains(Vector point);
 
+  /**
+   * Test if the region contains the given point, without allocating. Every other {@code contains}
+   * method can be implemented with this one.
+   */
+  boolean contains(double x, double y, double z);
+
   /** Test if the region contains the given point */
   boolean contains(Location point);
 
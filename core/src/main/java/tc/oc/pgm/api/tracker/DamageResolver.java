@@ -10,4 +10,15 @@ public interface DamageResolver {
   @Nullable
   DamageInfo resolveDamage(
       EntityDamageEvent.DamageCause damageType, Entity victim, @Nullable PhysicalInfo damager);
+
+  /**
+   * Get whether this resolver might resolve damage of a certain type. If not, {@link
+   * #resolveDamage} is never called with that type, and must return null for it.
+   *
+   * @param damageType The type of damage.
+   * @return Whether damage of that type might be resolved.
+   */
+  default boolean canResolve(EntityDamageEvent.DamageCause damageType) {
+    return true;
+  }
 }
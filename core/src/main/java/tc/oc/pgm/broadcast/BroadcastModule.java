@@ -1,7 +1,9 @@
 package tc.oc.pgm.broadcast;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
+import java.util.Collection;
 import java.util.logging.Logger;
 import org.jdom2.Attribute;
 import org.jdom2.Document;
@@ -14,7 +16,9 @@ import tc.oc.pgm.api.map.factory.MapModuleFactory;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.countdowns.CountdownRunner;
+import tc.oc.pgm.filters.FilterModule;
 import tc.oc.pgm.filters.FilterParser;
+import tc.oc.pgm.regions.RegionModule;
 import tc.oc.util.bukkit.component.Component;
 import tc.oc.util.xml.InvalidXMLException;
 import tc.oc.util.xml.Node;
@@ -33,6 +37,11 @@ public class BroadcastModule implements MapModule {
   }
 
   public static class Factory implements MapModuleFactory<BroadcastModule> {
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(RegionModule.class, FilterModule.class);
+    }
+
     @Override
     public BroadcastModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
@@ -11,12 +11,15 @@ import java.util.Map;
 import javax.annotation.Nullable;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.command.CommandSender;
+import tc.oc.pgm.api.Permissions;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchPhase;
+import tc.oc.pgm.api.match.MatchScope;
 import tc.oc.pgm.api.party.Competitor;
 import tc.oc.pgm.api.party.Party;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.ffa.FreeForAllMatchModule;
+import tc.oc.pgm.filters.FilterMatchModule;
 import tc.oc.pgm.goals.Goal;
 import tc.oc.pgm.goals.GoalMatchModule;
 import tc.oc.pgm.goals.ProximityGoal;
@@ -171,4 +174,43 @@ public class MatchCommands {
 
     return sb.toString();
   }
+
+  @Command(
+      aliases = {"filtercache"},
+      desc = "Shows how often filter responses were reused within a tick",
+      perms = Permissions.DEBUG)
+  public static void filterCache(CommandSender sender, Match match) {
+    FilterMatchModule filters = match.getModule(FilterMatchModule.class);
+    long hits = filters == null ? 0 : filters.getTickResponseHits();
+    long total = hits + (filters == null ? 0 : filters.getTickResponseMisses());
+
+    sender.sendMessage(
+        ChatColor.DARK_PURPLE
+            + "Filter responses reused: "
+            + ChatColor.GOLD
+            + hits
+            + "/"
+            + total
+            + ChatColor.GRAY
+            + " ("
+            + (total == 0 ? 0 : 100 * hits / total)
+            + "%)");
+  }
+
+  @Command(
+      aliases = {"tasks"},
+      desc = "Shows the tasks waiting to run in the match, by module",
+      perms = Permissions.DEBUG)
+  public static void tasks(CommandSender sender, Match match) {
+    for (MatchScope scope : MatchScope.values()) {
+      sender.sendMessage(
+          ChatColor.DARK_PURPLE + "Pending " + scope.name().toLowerCase() + " tasks:");
+
+      for (Map.Entry<String, Integer> entry :
+          match.getScheduler(scope).getPendingTaskCounts().entrySet()) {
+        sender.sendMessage(
+            "  " + ChatColor.GRAY + entry.getKey() + ": " + ChatColor.GOLD + entry.getValue());
+      }
+    }
+  }
 }
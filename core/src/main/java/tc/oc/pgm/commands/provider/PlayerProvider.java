@@ -0,0 +1,80 @@
+package tc.oc.pgm.commands.provider;
+
+import app.ashcon.intake.argument.ArgumentException;
+import app.ashcon.intake.argument.ArgumentParseException;
+import app.ashcon.intake.argument.CommandArgs;
+import app.ashcon.intake.argument.Namespace;
+import app.ashcon.intake.bukkit.parametric.provider.BukkitProvider;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.MatchManager;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.modules.PlayerNameMatchModule;
+import tc.oc.util.bukkit.translations.AllTranslations;
+
+/**
+ * Finds players by the name the sender sees them by, first in the sender's match and then in the
+ * others, using the name index of each match.
+ */
+public class PlayerProvider implements BukkitProvider<Player> {
+
+  private final MatchManager matchManager;
+
+  public PlayerProvider(MatchManager matchManager) {
+    this.matchManager = matchManager;
+  }
+
+  @Override
+  public String getName() {
+    return "player";
+  }
+
+  private @Nullable MatchPlayer getPlayer(Match match, String name, CommandSender sender) {
+    final PlayerNameMatchModule names = match.getModule(PlayerNameMatchModule.class);
+    return names == null ? null : names.getPlayer(name, sender);
+  }
+
+  @Override
+  public Player get(CommandSender sender, CommandArgs args, List<? extends Annotation> annotations)
+      throws ArgumentException {
+    final String name = args.next();
+
+    final Match match = matchManager.getMatch(sender);
+    MatchPlayer player = match == null ? null : getPlayer(match, name, sender);
+
+    // Allow for cross-match lookups
+    final Iterator<Match> matches = matchManager.getMatches();
+    while (player == null && matches.hasNext()) {
+      final Match other = matches.next();
+      if (other != match) player = getPlayer(other, name, sender);
+    }
+
+    if (player == null) {
+      throw new ArgumentParseException(
+          AllTranslations.get().translate("command.playerNotFound", sender));
+    }
+    return player.getBukkit();
+  }
+
+  @Override
+  public List<String> getSuggestions(
+      String prefix, Namespace namespace, List<? extends Annotation> modifiers) {
+    final CommandSender sender = namespace.get(CommandSender.class);
+
+    final List<String> suggestions = new ArrayList<>();
+    matchManager
+        .getMatches()
+        .forEachRemaining(
+            match -> {
+              final PlayerNameMatchModule names = match.getModule(PlayerNameMatchModule.class);
+              if (names != null) suggestions.addAll(names.complete(prefix, sender));
+            });
+    return suggestions;
+  }
+}
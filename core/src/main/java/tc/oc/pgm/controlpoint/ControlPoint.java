@@ -73,7 +73,7 @@ public class ControlPoint extends SimpleGoal<ControlPointDefinition>
   }
 
   public void registerEvents() {
-    this.match.addListener(this.playerTracker, MatchScope.RUNNING);
+    this.playerTracker.track();
     this.match.addListener(this.blockDisplay, MatchScope.RUNNING);
 
     this.blockDisplay.render();
@@ -81,7 +81,6 @@ public class ControlPoint extends SimpleGoal<ControlPointDefinition>
 
   public void unregisterEvents() {
     HandlerList.unregisterAll(this.blockDisplay);
-    HandlerList.unregisterAll(this.playerTracker);
   }
 
   public ControlPointBlockDisplay getBlockDisplay() {
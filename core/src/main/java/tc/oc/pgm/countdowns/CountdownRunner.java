@@ -4,16 +4,13 @@ import com.google.common.base.Preconditions;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.joda.time.Duration;
 import org.joda.time.Instant;
 import tc.oc.pgm.api.match.Match;
-import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.ticker.MatchTicker;
 import tc.oc.util.ClassLogger;
-import tc.oc.util.bukkit.Scheduler;
 
-public class CountdownRunner extends BukkitRunnable {
+public class CountdownRunner implements Runnable {
 
   public static final Duration MIN_REPEAT_INTERVAL = Duration.millis(50);
 
@@ -29,7 +26,7 @@ public class CountdownRunner extends BukkitRunnable {
   // The remaining seconds that will be passed to onTick for the next cycle
   private long secondsRemaining;
 
-  private BukkitTask task = null;
+  private MatchTicker.Entry task = null;
 
   public CountdownRunner(@Nonnull Match match, Logger parentLogger, @Nonnull Countdown countdown) {
     Preconditions.checkNotNull(match, "match");
@@ -69,7 +66,7 @@ public class CountdownRunner extends BukkitRunnable {
       this.secondsRemaining = remaining.getStandardSeconds();
       this.countdown.onStart(remaining, this.getTotalTime());
 
-      this.task = this.getScheduler().runTask(this);
+      this.task = match.getTicker().runTaskLater(1, this);
     }
 
     return this;
@@ -93,10 +90,6 @@ public class CountdownRunner extends BukkitRunnable {
     }
   }
 
-  protected Scheduler getScheduler() {
-    return match.getScheduler(MatchScope.LOADED);
-  }
-
   public @Nullable Instant getStart() {
     return this.start;
   }
@@ -132,7 +125,7 @@ public class CountdownRunner extends BukkitRunnable {
     if (this.secondsRemaining >= 0) {
       // If there are cycles left, schedule the next run
       long ticks = ticksRemaining - this.secondsRemaining * 20;
-      this.task = this.getScheduler().runTaskLater(ticks < 1 ? 1 : ticks, this);
+      this.task = match.getTicker().runTaskLater(ticks < 1 ? 1 : ticks, this);
     } else {
       // Otherwise, finish the countdown
       logger.fine("Ending countdown " + countdown);
@@ -2,6 +2,7 @@ package tc.oc.pgm.damage;
 
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Logger;
 import org.jdom2.Document;
@@ -12,6 +13,8 @@ import tc.oc.pgm.api.map.factory.MapFactory;
 import tc.oc.pgm.api.map.factory.MapModuleFactory;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.filters.FilterModule;
+import tc.oc.pgm.regions.RegionModule;
 import tc.oc.util.xml.InvalidXMLException;
 
 public class DamageModule implements MapModule {
@@ -28,6 +31,11 @@ public class DamageModule implements MapModule {
   }
 
   public static class Factory implements MapModuleFactory<DamageModule> {
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(RegionModule.class, FilterModule.class);
+    }
+
     @Override
     public DamageModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
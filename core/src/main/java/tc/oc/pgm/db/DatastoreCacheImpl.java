@@ -3,20 +3,42 @@ package tc.oc.pgm.db;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.bukkit.Bukkit;
 import tc.oc.pgm.api.Datastore;
 import tc.oc.pgm.api.map.MapActivity;
 import tc.oc.pgm.api.player.Username;
+import tc.oc.pgm.api.setting.SettingKey;
+import tc.oc.pgm.api.setting.SettingValue;
 import tc.oc.pgm.api.setting.Settings;
 
+/**
+ * Caches a {@link Datastore}, and holds the data of online players in memory.
+ *
+ * <p>The data of a player is loaded by {@link #loadPlayer(UUID)} while they log in, and pinned
+ * until they leave, so the main thread never waits on the database for them. Changes to their
+ * settings are kept in memory, and written by a background thread when they leave.
+ */
 public class DatastoreCacheImpl implements Datastore {
 
   private final LoadingCache<UUID, Username> usernames;
   private final LoadingCache<UUID, Settings> settings;
   private final LoadingCache<String, MapActivity> mapPools;
+  private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+  private final ExecutorService writer =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "PGM Datastore Writer");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   public DatastoreCacheImpl(Datastore datastore) {
     this.usernames =
@@ -60,14 +82,110 @@ public class DatastoreCacheImpl implements Datastore {
             });
   }
 
+  /** The data of a player, held for as long as they are online. */
+  private static class Session {
+    private final Username username;
+    private final SessionSettings settings;
+    private volatile boolean online = true;
+
+    private Session(Username username, Settings settings) {
+      this.username = username;
+      this.settings = new SessionSettings(settings);
+    }
+  }
+
+  /** Settings that are read and changed in memory, and written to the datastore on demand. */
+  private static class SessionSettings implements Settings {
+    private final Settings delegate;
+    private final Map<SettingKey, SettingValue> values = new EnumMap<>(SettingKey.class);
+    private final Map<SettingKey, SettingValue> dirty = new EnumMap<>(SettingKey.class);
+
+    private SessionSettings(Settings delegate) {
+      this.delegate = delegate;
+      for (SettingKey key : SettingKey.values()) {
+        values.put(key, delegate.getValue(key));
+      }
+    }
+
+    @Override
+    public UUID getId() {
+      return delegate.getId();
+    }
+
+    @Override
+    public synchronized SettingValue getValue(SettingKey key) {
+      return values.get(key);
+    }
+
+    @Override
+    public synchronized void setValue(SettingKey key, SettingValue value) {
+      if (values.put(key, value) != value) {
+        dirty.put(key, value);
+      }
+    }
+
+    /** Write the changed settings to the datastore, which may block. */
+    private void flush() {
+      final Map<SettingKey, SettingValue> changes;
+      synchronized (this) {
+        if (dirty.isEmpty()) return;
+        changes = new EnumMap<>(dirty);
+        dirty.clear();
+      }
+
+      changes.forEach(delegate::setValue);
+    }
+  }
+
+  @Override
+  public void loadPlayer(UUID id) {
+    while (true) {
+      Session session = sessions.get(id);
+      if (session == null) {
+        // Load outside of the map, so the database never blocks other players' sessions
+        final Session loaded = new Session(usernames.getUnchecked(id), settings.getUnchecked(id));
+        session = sessions.putIfAbsent(id, loaded);
+        if (session == null) return;
+      }
+
+      session.online = true;
+      // The writer may have released the session just before it was marked online
+      if (sessions.get(id) == session) return;
+    }
+  }
+
+  @Override
+  public void unloadPlayer(UUID id) {
+    final Session session = sessions.get(id);
+    if (session == null) return;
+
+    session.online = false;
+    writer.execute(
+        () -> {
+          session.settings.flush();
+          // Keep the session if the player logged in again before it was written
+          sessions.computeIfPresent(
+              id, (key, value) -> value == session && !value.online ? null : value);
+        });
+  }
+
+  /** Write the data of every player that is still loaded, and wait for it to finish. */
+  public void close() throws InterruptedException {
+    sessions.keySet().forEach(this::unloadPlayer);
+    writer.shutdown();
+    writer.awaitTermination(30, TimeUnit.SECONDS);
+  }
+
   @Override
   public Username getUsername(UUID id) {
-    return usernames.getUnchecked(id);
+    final Session session = sessions.get(id);
+    return session != null ? session.username : usernames.getUnchecked(id);
   }
 
   @Override
   public Settings getSettings(UUID id) {
-    return settings.getUnchecked(id);
+    final Session session = sessions.get(id);
+    return session != null ? session.settings : settings.getUnchecked(id);
   }
 
   @Override
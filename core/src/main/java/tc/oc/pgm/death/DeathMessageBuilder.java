@@ -1,6 +1,5 @@
 package tc.oc.pgm.death;
 
-import java.util.NavigableSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -33,13 +32,13 @@ public class DeathMessageBuilder {
 
   static class NoMessage extends Exception {}
 
-  static NavigableSet<String> allKeys;
+  static DeathMessageKeys.Node rootKey;
 
-  static NavigableSet<String> getAllKeys() {
-    if (allKeys == null) {
-      allKeys = TranslationUtils.getKeys("death.");
+  static DeathMessageKeys.Node getRootKey() {
+    if (rootKey == null) {
+      rootKey = DeathMessageKeys.compile("death", TranslationUtils.getKeys("death."));
     }
-    return allKeys;
+    return rootKey;
   }
 
   private static final long SNIPE_DISTANCE = 60;
@@ -51,7 +50,7 @@ public class DeathMessageBuilder {
   private final MatchPlayer victim;
   private final @Nullable ParticipantState killer;
 
-  private String key;
+  private DeathMessageKeys.Node key;
   private Component weapon = Components.blank();
   private Component mob = Components.blank();
   private Long distance;
@@ -65,7 +64,7 @@ public class DeathMessageBuilder {
   }
 
   public Component getMessage() {
-    return new PersonalizedTranslatable(key, getArgs());
+    return new PersonalizedTranslatable(key.getKey(), getArgs());
   }
 
   Component[] getArgs() {
@@ -90,17 +89,15 @@ public class DeathMessageBuilder {
    * Primitive methods for manipulating the key
    */
 
-  /** Test if the given string is a prefix of any existing key */
-  boolean exists(String prefix) {
-    String key = getAllKeys().ceiling(prefix);
-    return key != null && key.startsWith(prefix);
-  }
-
-  /** Return a new key built from the current key with the given tokens appended */
-  String append(String... tokens) {
-    String newKey = key;
-    for (String token : tokens) {
-      newKey += '.' + token;
+  /**
+   * Return a new key built from the current key with the given tokens appended, or null if it is
+   * not a prefix of any existing key
+   */
+  @Nullable
+  DeathMessageKeys.Node append(String... tokens) {
+    DeathMessageKeys.Node newKey = key;
+    for (int i = 0; newKey != null && i < tokens.length; i++) {
+      newKey = newKey.child(tokens[i]);
     }
     return newKey;
   }
@@ -110,8 +107,8 @@ public class DeathMessageBuilder {
    * current key is not changed.
    */
   boolean option(String... tokens) {
-    String newKey = append(tokens);
-    if (exists(newKey)) {
+    DeathMessageKeys.Node newKey = append(tokens);
+    if (newKey != null) {
       key = newKey;
       return true;
     }
@@ -124,9 +121,10 @@ public class DeathMessageBuilder {
    * @throws NoMessage if the new key is not valid
    */
   void require(String... tokens) throws NoMessage {
-    String newKey = append(tokens);
-    if (!exists(newKey)) {
-      logger.warning("Generated invalid death message key: " + newKey);
+    DeathMessageKeys.Node newKey = append(tokens);
+    if (newKey == null) {
+      logger.warning(
+          "Generated invalid death message key: " + key.getKey() + "." + String.join(".", tokens));
       throw new NoMessage();
     }
     key = newKey;
@@ -138,7 +136,7 @@ public class DeathMessageBuilder {
    * @throws NoMessage if it's not
    */
   void finish() throws NoMessage {
-    if (!getAllKeys().contains(key)) {
+    if (!key.isComplete()) {
       throw new NoMessage();
     }
   }
@@ -152,13 +150,10 @@ public class DeathMessageBuilder {
    */
 
   boolean variant() {
-    int count = 0;
-    for (; getAllKeys().contains(key + "." + count); count++) ;
-
-    if (count == 0) return false;
+    DeathMessageKeys.Node[] variants = key.getVariants();
+    if (variants.length == 0) return false;
 
-    int variant = victim.getMatch().getRandom().nextInt(count);
-    key += "." + variant;
+    key = variants[victim.getMatch().getRandom().nextInt(variants.length)];
     return true;
   }
 
@@ -416,7 +411,7 @@ public class DeathMessageBuilder {
     logger.fine("Generating death message for " + damageInfo);
 
     try {
-      key = "death";
+      key = getRootKey();
       damage(damageInfo);
       variant();
       finish();
@@ -424,7 +419,7 @@ public class DeathMessageBuilder {
       logger.log(
           Level.SEVERE,
           "Generated invalid death message '"
-              + key
+              + key.getKey()
               + "' for victim="
               + victim
               + " info="
@@ -438,7 +433,8 @@ public class DeathMessageBuilder {
               + " distance="
               + distance,
           ex);
-      key = "death.generic";
+      final DeathMessageKeys.Node generic = getRootKey().child("generic");
+      key = generic != null ? generic : getRootKey();
     }
   }
 }
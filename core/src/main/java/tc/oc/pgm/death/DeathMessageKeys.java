@@ -0,0 +1,107 @@
+package tc.oc.pgm.death;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * The death message keys, compiled into a tree of their dot-separated tokens, so that a death
+ * message can be resolved by walking the tree instead of building and looking up strings.
+ *
+ * <p>Each node knows the full key it represents, whether that key is a complete message, and the
+ * numbered variants of that message, so picking a variant does not have to count them.
+ */
+class DeathMessageKeys {
+
+  static class Node {
+    private final String key;
+    private final Map<String, Node> children = new HashMap<>();
+    private boolean complete;
+    private Node[] variants;
+
+    private Node(String key) {
+      this.key = key;
+    }
+
+    /** The full key of this node, such as "death.fall.ground". */
+    String getKey() {
+      return key;
+    }
+
+    /** Whether this node is a complete key, rather than only a prefix of other keys. */
+    boolean isComplete() {
+      return complete;
+    }
+
+    /**
+     * Get the node reached by appending a token, which may itself contain several dot-separated
+     * tokens.
+     *
+     * @return The node, or null if no key starts with the resulting prefix.
+     */
+    @Nullable
+    Node child(String token) {
+      Node node = this;
+      int start = 0;
+      int end;
+      while (node != null && (end = token.indexOf('.', start)) >= 0) {
+        node = node.children.get(token.substring(start, end));
+        start = end + 1;
+      }
+      return node == null ? null : node.children.get(start == 0 ? token : token.substring(start));
+    }
+
+    /** Get the complete keys numbered from zero below this node, which are its variants. */
+    Node[] getVariants() {
+      return variants;
+    }
+
+    private Node getOrCreate(String token) {
+      return children.computeIfAbsent(token, t -> new Node(key + '.' + t));
+    }
+
+    private void compile() {
+      final List<Node> variants = new ArrayList<>();
+      Node variant;
+      while ((variant = children.get(String.valueOf(variants.size()))) != null
+          && variant.complete) {
+        variants.add(variant);
+      }
+      this.variants = variants.toArray(new Node[0]);
+
+      for (Node child : children.values()) {
+        child.compile();
+      }
+    }
+  }
+
+  /**
+   * Compile a set of keys into a tree.
+   *
+   * @param root The first token of every key, which becomes the root of the tree.
+   * @param keys The keys, any which do not start with the root token are ignored.
+   * @return The root of the tree.
+   */
+  static Node compile(String root, Collection<String> keys) {
+    final Node rootNode = new Node(root);
+    final String prefix = root + '.';
+
+    for (String key : keys) {
+      if (key.equals(root)) {
+        rootNode.complete = true;
+      } else if (key.startsWith(prefix)) {
+        Node node = rootNode;
+        for (String token : key.substring(prefix.length()).split("\\.")) {
+          node = node.getOrCreate(token);
+        }
+        node.complete = true;
+      }
+    }
+
+    rootNode.compile();
+    return rootNode;
+  }
+}
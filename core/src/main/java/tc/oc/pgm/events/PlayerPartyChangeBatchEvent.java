@@ -0,0 +1,55 @@
+package tc.oc.pgm.events;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.bukkit.event.HandlerList;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.event.MatchEvent;
+import tc.oc.pgm.api.party.Party;
+import tc.oc.pgm.api.player.MatchPlayer;
+
+/**
+ * Called AFTER a batch of party changes, once {@link PlayerPartyChangeEvent}s have been called for
+ * every player in the batch. Listeners that refresh something shared by many players can ignore
+ * {@link PlayerPartyChangeEvent#isBatched()} events and do it once here instead.
+ *
+ * @see Match#batchPartyChanges(Runnable)
+ */
+public class PlayerPartyChangeBatchEvent extends MatchEvent {
+
+  private final Map<MatchPlayer, Party> oldParties;
+
+  public PlayerPartyChangeBatchEvent(Match match, Map<MatchPlayer, Party> oldParties) {
+    super(match);
+    this.oldParties = Collections.unmodifiableMap(checkNotNull(oldParties));
+  }
+
+  /** The players that changed party during the batch. */
+  public Set<MatchPlayer> getPlayers() {
+    return oldParties.keySet();
+  }
+
+  /**
+   * Get the party of a player before the batch.
+   *
+   * @return The party, or {@code null} if the player joined the match during the batch.
+   */
+  public @Nullable Party getOldParty(MatchPlayer player) {
+    return oldParties.get(player);
+  }
+
+  private static final HandlerList handlers = new HandlerList();
+
+  @Override
+  public HandlerList getHandlers() {
+    return handlers;
+  }
+
+  public static HandlerList getHandlerList() {
+    return handlers;
+  }
+}
@@ -19,6 +19,7 @@ public class PlayerPartyChangeEvent extends MatchPlayerEvent {
 
   protected final @Nullable Party oldParty;
   protected final @Nullable Party newParty;
+  protected final boolean batched;
   protected boolean cancelled;
 
   public PlayerPartyChangeEvent(
@@ -27,6 +28,7 @@ public class PlayerPartyChangeEvent extends MatchPlayerEvent {
     checkArgument(oldParty != newParty);
     this.oldParty = oldParty;
     this.newParty = newParty;
+    this.batched = player.getMatch().isBatchingPartyChanges();
   }
 
   public @Nullable Party getOldParty() {
@@ -45,6 +47,14 @@ public class PlayerPartyChangeEvent extends MatchPlayerEvent {
     return newParty != null && newParty.isParticipating();
   }
 
+  /**
+   * Get whether the change is part of a batch, which will be followed by a {@link
+   * PlayerPartyChangeBatchEvent}.
+   */
+  public boolean isBatched() {
+    return batched;
+  }
+
   private static final HandlerList handlers = new HandlerList();
 
   public static HandlerList getHandlerList() {
@@ -1,6 +1,7 @@
 package tc.oc.pgm.features;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.SetMultimap;
 import java.util.*;
@@ -12,6 +13,10 @@ import tc.oc.pgm.api.feature.FeatureValidation;
 import tc.oc.util.xml.InvalidXMLException;
 import tc.oc.util.xml.Node;
 
+/**
+ * Features and references of a map, which are registered by {@link
+ * tc.oc.pgm.api.map.factory.MapModuleFactory}s that may be parsing concurrently.
+ */
 public class FeatureDefinitionContext {
 
   private final Set<FeatureDefinition> definitions = new HashSet<>();
@@ -25,7 +30,7 @@ public class FeatureDefinitionContext {
     return node.getAttributeValue("id");
   }
 
-  public FeatureDefinition get(String id) {
+  public synchronized FeatureDefinition get(String id) {
     return byId.get(id);
   }
 
@@ -38,12 +43,12 @@ public class FeatureDefinitionContext {
     return type.isInstance(definition) ? type.cast(definition) : null;
   }
 
-  public <T extends FeatureDefinition> Iterable<T> getAll(Class<T> type) {
-    return Iterables.filter(definitions, type);
+  public synchronized <T extends FeatureDefinition> Iterable<T> getAll(Class<T> type) {
+    return ImmutableList.copyOf(Iterables.filter(definitions, type));
   }
 
   /** Return the XML element associated with the given feature */
-  public Element getNode(FeatureDefinition definition) {
+  public synchronized Element getNode(FeatureDefinition definition) {
     return definitionNodes.get(definition);
   }
 
@@ -52,7 +57,8 @@ public class FeatureDefinitionContext {
    * retrieve the feature from the context. However, it can still be passed to {@link #getNode} to
    * retrieve the element passed here.
    */
-  public void addFeature(@Nullable Element node, @Nullable String id, FeatureDefinition definition)
+  public synchronized void addFeature(
+      @Nullable Element node, @Nullable String id, FeatureDefinition definition)
       throws InvalidXMLException {
     if (definitions.add(definition)) {
       if (id != null) {
@@ -92,7 +98,7 @@ public class FeatureDefinitionContext {
    * Add an {@link XMLFeatureReference} to the internal list of references which are resolved after
    * all modules have loaded.
    */
-  public <T extends XMLFeatureReference<?>> T addReference(T reference) {
+  public synchronized <T extends XMLFeatureReference<?>> T addReference(T reference) {
     references.add(reference);
     return reference;
   }
@@ -126,7 +132,7 @@ public class FeatureDefinitionContext {
   }
 
   /** Enque a validation to run on the referenced feature eventually */
-  public <T extends FeatureDefinition> void validate(
+  public synchronized <T extends FeatureDefinition> void validate(
       FeatureReference<T> reference, FeatureValidation<T> validation) throws InvalidXMLException {
     if (reference.isResolved()) {
       validation.validate(reference.get(), reference.getNode());
@@ -135,7 +141,7 @@ public class FeatureDefinitionContext {
     }
   }
 
-  public Collection<InvalidXMLException> resolveReferences() {
+  public synchronized Collection<InvalidXMLException> resolveReferences() {
     List<InvalidXMLException> errors = new ArrayList<>();
     for (XMLFeatureReference<?> reference : references) {
       try {
@@ -14,16 +14,7 @@ public class AllFilter extends MultiFilterFunction {
   @Override
   public QueryResponse query(Query query) {
     // returns true if all the filters match
-    QueryResponse response = QueryResponse.ABSTAIN;
-    for (Filter filter : this.filters) {
-      QueryResponse filterResponse = filter.query(query);
-      if (filterResponse == QueryResponse.DENY) {
-        return filterResponse;
-      } else if (filterResponse == QueryResponse.ALLOW) {
-        response = filterResponse;
-      }
-    }
-    return response;
+    return queryPlan(query, QueryResponse.DENY);
   }
 
   public static Filter of(Filter... filters) {
@@ -13,16 +13,7 @@ public class AnyFilter extends MultiFilterFunction {
   @Override
   public QueryResponse query(Query query) {
     // returns true if any of the filters match
-    QueryResponse response = QueryResponse.ABSTAIN;
-    for (Filter filter : this.filters) {
-      QueryResponse filterResponse = filter.query(query);
-      if (filterResponse == QueryResponse.ALLOW) {
-        return filterResponse;
-      } else if (filterResponse == QueryResponse.DENY) {
-        response = filterResponse;
-      }
-    }
-    return response;
+    return queryPlan(query, QueryResponse.ALLOW);
   }
 
   public static Filter of(Filter... filters) {
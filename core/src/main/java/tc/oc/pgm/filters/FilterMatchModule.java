@@ -5,19 +5,37 @@ import com.google.common.collect.SetMultimap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.PriorityQueue;
+import javax.annotation.Nullable;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityShootBowEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerPickupItemEvent;
 import org.joda.time.Duration;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.filter.FilterListener;
 import tc.oc.pgm.api.filter.query.MatchQuery;
+import tc.oc.pgm.api.filter.query.PlayerQuery;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.api.player.event.MatchPlayerDeathEvent;
 import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.events.PlayerPartyChangeEvent;
 import tc.oc.pgm.flag.event.FlagStateChangeEvent;
 import tc.oc.pgm.goals.events.GoalCompleteEvent;
+import tc.oc.pgm.util.PlayerSlotMap;
 
 @ListenerScope(MatchScope.LOADED)
 public class FilterMatchModule implements MatchModule, Listener {
@@ -27,6 +45,13 @@ public class FilterMatchModule implements MatchModule, Listener {
   private final Map<Filter, Filter.QueryResponse> responses = new HashMap<>();
   private final PriorityQueue<TimeFilter> timeFilterQueue = new PriorityQueue<>();
 
+  // Responses of tick-pure filters to each player, see ParticipantFilter#isTickPure
+  private final PlayerSlotMap<Map<Filter, Filter.QueryResponse>> tickResponses =
+      new PlayerSlotMap<>();
+  private long tickResponsesTick = -1;
+  private long tickResponseHits;
+  private long tickResponseMisses;
+
   public FilterMatchModule(Match match) {
     this.match = match;
   }
@@ -49,6 +74,57 @@ public class FilterMatchModule implements MatchModule, Listener {
     listener.filterQueryChanged(filter, match.getQuery(), null, response);
   }
 
+  /** Query a tick-pure filter, reusing its response to the same player from earlier in the tick. */
+  Filter.QueryResponse queryTickPure(
+      ParticipantFilter filter, PlayerQuery query, MatchPlayer player) {
+    if (!Bukkit.isPrimaryThread()) {
+      return filter.queryPlayer(query, player);
+    }
+
+    final long tick = match.getTick().tick;
+    if (tick != tickResponsesTick) {
+      tickResponses.clear();
+      tickResponsesTick = tick;
+    }
+
+    Map<Filter, Filter.QueryResponse> responses = tickResponses.get(player);
+    if (responses == null) {
+      responses = new HashMap<>();
+      tickResponses.put(player, responses);
+    }
+
+    Filter.QueryResponse response = responses.get(filter);
+    if (response == null) {
+      tickResponseMisses++;
+      response = filter.queryPlayer(query, player);
+      responses.put(filter, response);
+    } else {
+      tickResponseHits++;
+    }
+    return response;
+  }
+
+  /** Forget the cached responses of tick-pure filters to a player, after their state changed. */
+  public void invalidate(@Nullable MatchPlayer player) {
+    if (player != null) {
+      tickResponses.remove(player);
+    }
+  }
+
+  private void invalidate(@Nullable Entity entity) {
+    invalidate(match.getPlayer(entity));
+  }
+
+  /** Number of queries to tick-pure filters that reused an earlier response. */
+  public long getTickResponseHits() {
+    return tickResponseHits;
+  }
+
+  /** Number of queries to tick-pure filters that were evaluated. */
+  public long getTickResponseMisses() {
+    return tickResponseMisses;
+  }
+
   @Override
   public void load() {
     // FIXME: PGM no longer has access to MapFactory at Match time
@@ -116,6 +192,69 @@ public class FilterMatchModule implements MatchModule, Listener {
 
   @EventHandler(priority = EventPriority.MONITOR)
   public void onFlagChange(FlagStateChangeEvent event) {
+    tickResponses.clear();
     checkAll();
   }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyChange(PlayerPartyChangeEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onDeath(MatchPlayerDeathEvent event) {
+    // The killer's streak changes too
+    tickResponses.clear();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onInventoryClick(InventoryClickEvent event) {
+    invalidate(event.getWhoClicked());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onInventoryDrag(InventoryDragEvent event) {
+    invalidate(event.getWhoClicked());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onItemPickup(PlayerPickupItemEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onItemDrop(PlayerDropItemEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onItemHeld(PlayerItemHeldEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onItemConsume(PlayerItemConsumeEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onItemBreak(PlayerItemBreakEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onInteract(PlayerInteractEvent event) {
+    // Covers throwing items, filling and emptying buckets, and other uses of an item
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onBlockPlace(BlockPlaceEvent event) {
+    invalidate(event.getPlayer());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onShootBow(EntityShootBowEvent event) {
+    invalidate(event.getEntity());
+  }
 }
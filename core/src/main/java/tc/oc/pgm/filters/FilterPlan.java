@@ -0,0 +1,173 @@
+package tc.oc.pgm.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import tc.oc.pgm.api.filter.Filter;
+import tc.oc.pgm.api.filter.Filter.QueryResponse;
+import tc.oc.pgm.api.filter.query.Query;
+import tc.oc.pgm.regions.AbstractRegion;
+
+/**
+ * The children of a commutative filter, such as {@link AllFilter} or {@link AnyFilter}, compiled
+ * for one type of query.
+ *
+ * <p>Nested filters of the same type are flattened, and children that are sure to abstain from the
+ * query type are left out. The remaining children are ordered so that those which are cheap and
+ * often decide the result, by returning the short-circuit response, are evaluated first. The order
+ * is adjusted as results are observed, but never changes the result of the parent filter.
+ */
+class FilterPlan {
+
+  /** Number of queries between each re-ordering of the children. */
+  private static final int REORDER_INTERVAL = 1024;
+
+  private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::getRank);
+
+  private static class Entry {
+    private final Filter filter;
+    private final double cost;
+    private int evaluated;
+    private int decided;
+
+    private Entry(Filter filter) {
+      this.filter = filter;
+      this.cost = estimateCost(filter);
+    }
+
+    /** Expected cost of evaluating this child before it short-circuits, lower is better. */
+    private double getRank() {
+      return cost * (evaluated + 2) / (decided + 1);
+    }
+  }
+
+  private final QueryResponse shortCircuit;
+  private volatile Entry[] entries;
+  private int queries;
+
+  /**
+   * @param parent The filter whose children are compiled.
+   * @param shortCircuit The response from a child that decides the result of the parent.
+   * @param queryType The type of query the plan is for.
+   */
+  FilterPlan(
+      MultiFilterFunction parent, QueryResponse shortCircuit, Class<? extends Query> queryType) {
+    this.shortCircuit = shortCircuit;
+
+    final List<Entry> entries = new ArrayList<>();
+    for (Filter child : flatten(parent, new ArrayList<>())) {
+      if (mayRespond(child, queryType)) {
+        entries.add(new Entry(child));
+      }
+    }
+    entries.sort(ORDER);
+    this.entries = entries.toArray(new Entry[0]);
+  }
+
+  /**
+   * Query the children until one of them returns the short-circuit response.
+   *
+   * @return The short-circuit response, if a child returned it, otherwise the other response if any
+   *     child returned it, otherwise {@link QueryResponse#ABSTAIN}.
+   */
+  QueryResponse query(Query query) {
+    final Entry[] entries = this.entries;
+    QueryResponse response = QueryResponse.ABSTAIN;
+
+    for (Entry entry : entries) {
+      final QueryResponse childResponse = entry.filter.query(query);
+      entry.evaluated++;
+
+      if (childResponse == shortCircuit) {
+        entry.decided++;
+        response = childResponse;
+        break;
+      } else if (childResponse != QueryResponse.ABSTAIN) {
+        response = childResponse;
+      }
+    }
+
+    if (++queries >= REORDER_INTERVAL && entries.length > 1) {
+      reorder(entries);
+    }
+
+    return response;
+  }
+
+  private void reorder(Entry[] entries) {
+    queries = 0;
+
+    final Entry[] reordered = Arrays.copyOf(entries, entries.length);
+    Arrays.sort(reordered, ORDER);
+
+    // Decay the statistics, so the order can follow changes during the match
+    for (Entry entry : reordered) {
+      entry.evaluated /= 2;
+      entry.decided /= 2;
+    }
+
+    this.entries = reordered;
+  }
+
+  private static Filter unwrap(Filter filter) {
+    while (filter instanceof XMLFilterReference) {
+      filter = ((XMLFilterReference) filter).get();
+    }
+    return filter;
+  }
+
+  private static List<Filter> flatten(MultiFilterFunction parent, List<Filter> into) {
+    for (Filter child : parent.filters) {
+      final Filter unwrapped = unwrap(child);
+      if (unwrapped.getClass() == parent.getClass()) {
+        flatten((MultiFilterFunction) unwrapped, into);
+      } else {
+        into.add(child);
+      }
+    }
+    return into;
+  }
+
+  /** Whether the filter might not abstain from a query of the given type. */
+  private static boolean mayRespond(Filter filter, Class<? extends Query> queryType) {
+    filter = unwrap(filter);
+
+    if (filter instanceof TypedFilter) {
+      return filter.getQueryType().isAssignableFrom(queryType);
+    } else if (filter instanceof SingleFilterFunction) {
+      // All of these abstain when their child abstains
+      return mayRespond(((SingleFilterFunction) filter).filter, queryType);
+    } else if (filter instanceof MultiFilterFunction) {
+      for (Filter child : ((MultiFilterFunction) filter).filters) {
+        if (mayRespond(child, queryType)) return true;
+      }
+      return false;
+    } else {
+      return filter != StaticFilter.ABSTAIN;
+    }
+  }
+
+  /** A rough, relative cost of querying a filter. */
+  private static double estimateCost(Filter filter) {
+    filter = unwrap(filter);
+
+    if (filter instanceof StaticFilter || filter instanceof QueryTypeFilter) {
+      return 0.5;
+    } else if (filter instanceof ParticipantItemFilter) {
+      return 8; // Scans an inventory
+    } else if (filter instanceof AbstractRegion) {
+      return 2;
+    } else if (filter instanceof SingleFilterFunction) {
+      return 0.5 + estimateCost(((SingleFilterFunction) filter).filter);
+    } else if (filter instanceof MultiFilterFunction) {
+      double cost = 0.5;
+      for (Filter child : ((MultiFilterFunction) filter).filters) {
+        cost += estimateCost(child);
+      }
+      return cost;
+    } else {
+      return 1;
+    }
+  }
+}
@@ -15,6 +15,11 @@ public class KillStreakFilter extends ParticipantFilter {
     this.repeat = repeat;
   }
 
+  @Override
+  protected boolean isTickPure() {
+    return true;
+  }
+
   @Override
   protected QueryResponse queryPlayer(PlayerQuery query, MatchPlayer player) {
     int streak =
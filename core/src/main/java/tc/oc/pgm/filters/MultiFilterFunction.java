@@ -3,6 +3,8 @@ package tc.oc.pgm.filters;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.filter.FilterDefinition;
 import tc.oc.pgm.api.filter.query.Query;
@@ -10,6 +12,7 @@ import tc.oc.pgm.api.filter.query.Query;
 public abstract class MultiFilterFunction implements FilterDefinition {
   protected final List<Filter> filters;
   protected Class<? extends Query> upperBound;
+  private final Map<Class<? extends Query>, FilterPlan> plans = new ConcurrentHashMap<>();
 
   @Override
   public Class<? extends Query> getQueryType() {
@@ -33,6 +36,20 @@ public abstract class MultiFilterFunction implements FilterDefinition {
     this.filters = ImmutableList.copyOf(filters);
   }
 
+  /**
+   * Query the children, compiled for the type of the given query, until one returns the
+   * short-circuit response. This must only be used if the result of this filter does not depend on
+   * the order of its children.
+   */
+  protected QueryResponse queryPlan(Query query, QueryResponse shortCircuit) {
+    FilterPlan plan = plans.get(query.getClass());
+    if (plan == null) {
+      plan =
+          plans.computeIfAbsent(query.getClass(), type -> new FilterPlan(this, shortCircuit, type));
+    }
+    return plan.query(query);
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{filters=" + Joiner.on(',').join(this.filters) + "}";
@@ -21,10 +21,23 @@ public abstract class ParticipantFilter extends TypedFilter<PlayerQuery> {
 
   protected abstract QueryResponse queryPlayer(PlayerQuery query, MatchPlayer player);
 
+  /**
+   * Whether the response to a player stays the same for the rest of the tick, unless the player
+   * changes party, dies, or uses their inventory. Responses of these filters are cached by the
+   * {@link FilterMatchModule}.
+   */
+  protected boolean isTickPure() {
+    return false;
+  }
+
   @Override
   protected final QueryResponse queryTyped(PlayerQuery query) {
     MatchPlayer player = query.getMatch().getPlayer(query.getPlayerId());
     if (player != null && player.getParty() instanceof Competitor) {
+      if (isTickPure()) {
+        final FilterMatchModule filters = query.getMatch().getModule(FilterMatchModule.class);
+        if (filters != null) return filters.queryTickPure(this, query, player);
+      }
       return queryPlayer(query, player);
     } else {
       return QueryResponse.DENY;
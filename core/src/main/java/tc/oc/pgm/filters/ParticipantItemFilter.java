@@ -15,6 +15,11 @@ public abstract class ParticipantItemFilter extends ParticipantFilter {
 
   protected abstract ItemStack[] getItems(MatchPlayer player);
 
+  @Override
+  protected boolean isTickPure() {
+    return true;
+  }
+
   @Override
   protected QueryResponse queryPlayer(PlayerQuery query, MatchPlayer player) {
     for (ItemStack item : getItems(player)) {
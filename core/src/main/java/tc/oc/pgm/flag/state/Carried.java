@@ -50,6 +50,14 @@ public class Carried extends Spawned implements Missing {
   protected @Nullable Net deniedByNet;
   protected @Nullable Flag deniedByFlag;
   protected @Nullable Component lastMessage;
+  private @Nullable Component hotbarMessage;
+  private @Nullable Net messageDeniedByNet;
+  private @Nullable Flag messageDeniedByFlag;
+  private int hotbarClock;
+
+  // The client shows a hotbar message at full opacity for 40 ticks, so it is refreshed more often
+  // than that, but not on every tick
+  private static final int HOTBAR_INTERVAL = 10;
 
   private static final int DROP_QUEUE_SIZE = 100;
   private Deque<Location> dropLocations = new ArrayDeque<>(DROP_QUEUE_SIZE);
@@ -182,15 +190,28 @@ public class Carried extends Spawned implements Missing {
   public void tickRunning() {
     super.tickRunning();
 
-    Component message = this.getMessage();
-    this.carrier.sendHotbarMessage(
-        message instanceof PersonalizedTranslatable
-            ? ((PersonalizedTranslatable) message).getPersonalizedText()
-            : message);
+    // The message only depends on what is denying the capture, so only rebuild it when that changes
+    if (this.lastMessage == null
+        || this.messageDeniedByNet != this.deniedByNet
+        || this.messageDeniedByFlag != this.deniedByFlag) {
+      this.messageDeniedByNet = this.deniedByNet;
+      this.messageDeniedByFlag = this.deniedByFlag;
+
+      Component message = this.getMessage();
+      if (!Components.equals(message, this.lastMessage)) {
+        this.lastMessage = message;
+        this.hotbarMessage =
+            message instanceof PersonalizedTranslatable
+                ? ((PersonalizedTranslatable) message).getPersonalizedText()
+                : message;
+        this.hotbarClock = 0;
+        this.carrier.showTitle(new PersonalizedText(), message, 0, 5, 35);
+      }
+    }
 
-    if (!Components.equals(message, this.lastMessage)) {
-      this.lastMessage = message;
-      this.carrier.showTitle(new PersonalizedText(), message, 0, 5, 35);
+    if (--this.hotbarClock <= 0) {
+      this.hotbarClock = HOTBAR_INTERVAL;
+      this.carrier.sendHotbarMessage(this.hotbarMessage);
     }
 
     ScoreMatchModule smm = this.flag.getMatch().getModule(ScoreMatchModule.class);
@@ -1,5 +1,6 @@
 package tc.oc.pgm.flag.state;
 
+import javax.annotation.Nullable;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -18,6 +19,10 @@ public abstract class Spawned extends BaseState {
 
   protected int particleClock;
 
+  // The beam only changes when the flag moves, so the same packet is sent until it does
+  private @Nullable Object beamPacket;
+  private double beamX, beamY, beamZ;
+
   public Spawned(Flag flag, Post post) {
     super(flag, post);
   }
@@ -48,24 +53,37 @@ public abstract class Spawned extends BaseState {
     return true;
   }
 
-  @Override
-  public void tickLoaded() {
-    super.tickLoaded();
-
-    this.particleClock++;
-
-    if (this.flag.getDefinition().showBeam()) {
-      Object packet =
+  private Object getBeamPacket() {
+    final Location location = this.getLocation();
+    if (this.beamPacket == null
+        || location.getX() != this.beamX
+        || location.getY() != this.beamY
+        || location.getZ() != this.beamZ) {
+      this.beamX = location.getX();
+      this.beamY = location.getY();
+      this.beamZ = location.getZ();
+      this.beamPacket =
           NMSHacks.particlesPacket(
               "ITEM_CRACK",
               true,
-              this.getLocation().clone().add(0, 56, 0).toVector(),
+              new Vector(this.beamX, this.beamY + 56, this.beamZ),
               new Vector(0.15, 24, 0.15), // radius on each axis of the particle ball
               0f, // initial horizontal velocity
               40, // number of particles
               Material.WOOL.getId(),
               this.flag.getDyeColor().getWoolData());
+    }
+    return this.beamPacket;
+  }
+
+  @Override
+  public void tickLoaded() {
+    super.tickLoaded();
+
+    this.particleClock++;
 
+    if (this.flag.getDefinition().showBeam()) {
+      final Object packet = this.getBeamPacket();
       for (MatchPlayer player : flag.getMatch().getPlayers()) {
         if (this.canSeeParticles(player.getBukkit())) {
           NMSHacks.sendPacket(player.getBukkit(), packet);
@@ -1,13 +1,17 @@
 package tc.oc.pgm.inventory;
 
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -37,12 +41,13 @@ import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.potion.PotionEffect;
 import org.joda.time.Duration;
-import org.joda.time.Instant;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.match.Tickable;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.player.event.ObserverInteractEvent;
+import tc.oc.pgm.api.time.Tick;
 import tc.oc.pgm.blitz.BlitzMatchModule;
 import tc.oc.pgm.doublejump.DoubleJumpMatchModule;
 import tc.oc.pgm.events.ListenerScope;
@@ -55,7 +60,7 @@ import tc.oc.util.bukkit.BukkitUtils;
 import tc.oc.util.bukkit.translations.AllTranslations;
 
 @ListenerScope(MatchScope.LOADED)
-public class ViewInventoryMatchModule implements MatchModule, Listener {
+public class ViewInventoryMatchModule implements MatchModule, Listener, Tickable {
 
   /**
    * Amount of milliseconds after the match begins where players may not add / remove items from
@@ -63,11 +68,15 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
    */
   public static final Duration CHEST_PROTECT_TIME = Duration.standardSeconds(2);
 
-  public static final Duration TICK = Duration.millis(50);
+  /** Number of ticks between each push of changed inventories to their viewers. */
+  public static final int UPDATE_INTERVAL_TICKS = 5;
 
-  protected final HashMap<String, InventoryTrackerEntry> monitoredInventories =
-      new HashMap<String, InventoryTrackerEntry>();
-  protected final HashMap<String, Instant> updateQueue = Maps.newHashMap();
+  // Preview that each viewer has open, by the viewer's id
+  protected final Map<UUID, InventoryTrackerEntry> monitoredInventories = new HashMap<>();
+  // Viewers of each watched inventory, so a change only visits its own viewers
+  protected final SetMultimap<Inventory, UUID> inventoryViewers = HashMultimap.create();
+  // Watched inventories that changed since the last update
+  protected final Set<Inventory> dirtyInventories = new LinkedHashSet<>();
 
   public static int getInventoryPreviewSlot(int inventorySlot) {
     if (inventorySlot < 9) {
@@ -84,27 +93,19 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
 
   public ViewInventoryMatchModule(Match match) {
     this.match = match;
-    match
-        .getScheduler(MatchScope.RUNNING)
-        .runTaskTimer(
-            Duration.standardSeconds(1),
-            () -> {
-              if (ViewInventoryMatchModule.this.updateQueue.isEmpty()) return;
-
-              for (Iterator<Map.Entry<String, Instant>> iterator =
-                      ViewInventoryMatchModule.this.updateQueue.entrySet().iterator();
-                  iterator.hasNext(); ) {
-                Map.Entry<String, Instant> entry = iterator.next();
-                if (entry.getValue().isAfterNow()) continue;
-
-                Player player = Bukkit.getPlayerExact(entry.getKey());
-                if (player != null) {
-                  ViewInventoryMatchModule.this.checkMonitoredInventories(player);
-                }
-
-                iterator.remove();
-              }
-            });
+  }
+
+  @Override
+  public void tick(Match match, Tick tick) {
+    if (dirtyInventories.isEmpty() || tick.tick % UPDATE_INTERVAL_TICKS != 0) return;
+    if (!match.isRunning()) return;
+
+    final List<Inventory> inventories = ImmutableList.copyOf(dirtyInventories);
+    dirtyInventories.clear();
+
+    for (Inventory inventory : inventories) {
+      this.checkMonitoredInventories(inventory);
+    }
   }
 
   @EventHandler(ignoreCancelled = true)
@@ -129,12 +130,18 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
 
   @EventHandler
   public void closeMonitoredInventory(final InventoryCloseEvent event) {
-    this.monitoredInventories.remove(event.getPlayer().getName());
+    final InventoryTrackerEntry entry =
+        this.monitoredInventories.get(event.getPlayer().getUniqueId());
+
+    // Opening a new preview closes the old one, which should not stop tracking the new one
+    if (entry != null && entry.getPreview().equals(event.getInventory())) {
+      this.stopMonitoring(event.getPlayer().getUniqueId());
+    }
   }
 
   @EventHandler
   public void playerQuit(final PlayerPartyChangeEvent event) {
-    this.monitoredInventories.remove(event.getPlayer().getBukkit().getName());
+    this.stopMonitoring(event.getPlayer().getId());
   }
 
   @EventHandler(ignoreCancelled = true)
@@ -167,48 +174,10 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
     if (event.getWhoClicked() instanceof Player) {
       Player player = (Player) event.getWhoClicked();
 
-      boolean playerInventory =
-          event.getInventory().getType() == InventoryType.CRAFTING; // cb bug fix
-      Inventory inventory;
-
-      if (playerInventory) {
-        inventory = player.getInventory();
-      } else {
-        inventory = event.getInventory();
-      }
-
-      invLoop:
-      for (Map.Entry<String, InventoryTrackerEntry> entry :
-          new HashSet<>(
-              this.monitoredInventories.entrySet())) { // avoid ConcurrentModificationException
-        String pl = entry.getKey();
-        InventoryTrackerEntry tracker = entry.getValue();
-
-        // because a player can only be viewing one inventory at a time,
-        // this is how we determine if we have a match
-        if (inventory.getViewers().isEmpty()
-            || tracker.getWatched().getViewers().isEmpty()
-            || inventory.getViewers().size() > tracker.getWatched().getViewers().size())
-          continue invLoop;
-
-        for (int i = 0; i < inventory.getViewers().size(); i++) {
-          if (!inventory.getViewers().get(i).equals(tracker.getWatched().getViewers().get(i))) {
-            continue invLoop;
-          }
-        }
-
-        // a watched user is in a chest
-        if (tracker.isPlayerInventory() && !playerInventory) {
-          inventory = tracker.getPlayerInventory().getHolder().getInventory();
-          playerInventory = true;
-        }
-
-        if (playerInventory) {
-          this.previewPlayerInventory(
-              Bukkit.getServer().getPlayerExact(pl), (PlayerInventory) inventory);
-        } else {
-          this.previewInventory(Bukkit.getServer().getPlayerExact(pl), inventory);
-        }
+      // A click can change both the clicker's inventory and the container they have open
+      this.scheduleCheck(player.getInventory());
+      if (event.getInventory().getType() != InventoryType.CRAFTING) { // cb bug fix
+        this.scheduleCheck(event.getInventory());
       }
     }
   }
@@ -269,7 +238,8 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
   @Override
   public void unload() {
     monitoredInventories.clear();
-    updateQueue.clear();
+    inventoryViewers.clear();
+    dirtyInventories.clear();
   }
 
   public boolean canPreviewInventory(Player viewer, Player holder) {
@@ -295,23 +265,33 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
   }
 
   protected void scheduleCheck(Player updater) {
-    if (this.updateQueue.containsKey(updater.getName())) return;
-
-    this.updateQueue.put(updater.getName(), Instant.now().plus(TICK));
+    this.scheduleCheck(updater.getInventory());
   }
 
-  protected void checkMonitoredInventories(Player updater) {
-    for (Map.Entry<String, InventoryTrackerEntry> entry : this.monitoredInventories.entrySet()) {
-      String pl = entry.getKey();
-      InventoryTrackerEntry tracker = entry.getValue();
+  protected void scheduleCheck(Inventory inventory) {
+    if (this.inventoryViewers.containsKey(inventory)) {
+      this.dirtyInventories.add(inventory);
+    }
+  }
 
-      if (tracker.isPlayerInventory()) {
-        Player holder = (Player) tracker.getPlayerInventory().getHolder();
-        if (updater.getName().equals(holder.getName())) {
-          this.previewPlayerInventory(
-              Bukkit.getServer().getPlayerExact(pl), tracker.getPlayerInventory());
-        }
+  protected void checkMonitoredInventories(Inventory inventory) {
+    // Copied since showing a preview can replace a viewer's tracked inventory
+    for (UUID viewerId : ImmutableList.copyOf(this.inventoryViewers.get(inventory))) {
+      final MatchPlayer viewer = this.match.getPlayer(viewerId);
+      final InventoryTrackerEntry entry = this.monitoredInventories.get(viewerId);
+      if (viewer == null || entry == null) {
+        this.stopMonitoring(viewerId);
+        continue;
       }
+
+      this.previewInventory(viewer.getBukkit(), entry.getWatched());
+    }
+  }
+
+  protected void stopMonitoring(UUID viewerId) {
+    final InventoryTrackerEntry entry = this.monitoredInventories.remove(viewerId);
+    if (entry != null) {
+      this.inventoryViewers.remove(entry.getWatched(), viewerId);
     }
   }
 
@@ -507,14 +487,23 @@ public class ViewInventoryMatchModule implements MatchModule, Listener {
       return;
     }
 
-    InventoryTrackerEntry entry = this.monitoredInventories.get(viewer.getName());
+    InventoryTrackerEntry entry = this.monitoredInventories.get(viewer.getUniqueId());
     if (entry != null
         && entry.getWatched().equals(realInventory)
         && entry.getPreview().getSize() == fakeInventory.getSize()) {
-      entry.getPreview().setContents(fakeInventory.getContents());
+      // Only push the slots that actually changed to the viewer
+      final Inventory preview = entry.getPreview();
+      final ItemStack[] contents = fakeInventory.getContents();
+      for (int slot = 0; slot < contents.length; slot++) {
+        if (!Objects.equals(preview.getItem(slot), contents[slot])) {
+          preview.setItem(slot, contents[slot]);
+        }
+      }
     } else {
+      this.stopMonitoring(viewer.getUniqueId());
       entry = new InventoryTrackerEntry(realInventory, fakeInventory);
-      this.monitoredInventories.put(viewer.getName(), entry);
+      this.monitoredInventories.put(viewer.getUniqueId(), entry);
+      this.inventoryViewers.put(realInventory, viewer.getUniqueId());
       viewer.openInventory(fakeInventory);
     }
   }
@@ -253,16 +253,19 @@ public class JoinMatchModule implements MatchModule, Listener, JoinHandler {
 
   @Override
   public void queuedJoin(QueuedParticipants queue) {
-    // Give all handlers a chance to bulk join
-    for (JoinHandler handler : handlers) {
-      if (queue.getPlayers().isEmpty()) break;
-      handler.queuedJoin(queue);
-    }
-
-    // Send any leftover players to obs
-    for (MatchPlayer joining : queue.getOrderedPlayers()) {
-      match.setParty(joining, match.getDefaultParty());
-    }
+    match.batchPartyChanges(
+        () -> {
+          // Give all handlers a chance to bulk join
+          for (JoinHandler handler : handlers) {
+            if (queue.getPlayers().isEmpty()) break;
+            handler.queuedJoin(queue);
+          }
+
+          // Send any leftover players to obs
+          for (MatchPlayer joining : queue.getOrderedPlayers()) {
+            match.setParty(joining, match.getDefaultParty());
+          }
+        });
   }
 
   @EventHandler(priority = EventPriority.MONITOR)
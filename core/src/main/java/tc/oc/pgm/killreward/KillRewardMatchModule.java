@@ -27,6 +27,7 @@ import tc.oc.pgm.api.player.event.MatchPlayerDeathEvent;
 import tc.oc.pgm.api.tracker.info.DamageInfo;
 import tc.oc.pgm.events.ListenerScope;
 import tc.oc.pgm.events.PlayerPartyChangeEvent;
+import tc.oc.pgm.filters.FilterMatchModule;
 import tc.oc.pgm.filters.query.DamageQuery;
 import tc.oc.util.collection.DefaultMapAdapter;
 
@@ -95,6 +96,12 @@ public class KillRewardMatchModule implements MatchModule, Listener {
         }
       }
     }
+
+    // Reward kits are applied directly, not through MatchPlayer#applyKit
+    if (!rewards.isEmpty()) {
+      final FilterMatchModule filters = match.getModule(FilterMatchModule.class);
+      if (filters != null) filters.invalidate(killer);
+    }
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
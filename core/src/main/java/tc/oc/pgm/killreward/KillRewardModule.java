@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import org.bukkit.inventory.ItemStack;
 import org.jdom2.Document;
 import org.jdom2.Element;
+import org.jdom2.filter.Filters;
 import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.map.MapModule;
 import tc.oc.pgm.api.map.factory.MapFactory;
@@ -15,7 +16,6 @@ import tc.oc.pgm.api.map.factory.MapModuleFactory;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.filters.FilterModule;
-import tc.oc.pgm.filters.KillStreakFilter;
 import tc.oc.pgm.filters.StaticFilter;
 import tc.oc.pgm.itemmeta.ItemModifyModule;
 import tc.oc.pgm.kits.Kit;
@@ -72,9 +72,10 @@ public class KillRewardModule implements MapModule {
         rewards.add(new KillReward(items.build(), filter, kit));
       }
 
+      // Any module can parse a kill streak filter, so look for them in the document instead
       ImmutableList<KillReward> list = rewards.build();
       if (list.isEmpty()
-          && !factory.getFeatures().getAll(KillStreakFilter.class).iterator().hasNext()) {
+          && !doc.getRootElement().getDescendants(Filters.element("kill-streak")).hasNext()) {
         return null;
       } else {
         return new KillRewardModule(list);
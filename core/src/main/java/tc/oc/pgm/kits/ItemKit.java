@@ -3,9 +3,12 @@ package tc.oc.pgm.kits;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
@@ -57,51 +60,76 @@ public class ItemKit implements KitDefinition {
         kitEntry.getKey().putItem(holder, kitEntry.getValue().clone());
       }
     } else {
-      // Tools in the player's inv are repaired using matching tools in the kit with less damage
+      // Look at each stack in the player's inv once, and only compare it with kit items of the
+      // same type, since neither repairs nor stacking can happen between different types.
+      final ItemStack[] contents = inv.getContents();
+      final Map<Material, List<ItemStack>> invStacksByType = new EnumMap<>(Material.class);
+      for (ItemStack invStack : contents) {
+        if (invStack != null) {
+          invStacksByType.computeIfAbsent(invStack.getType(), t -> new ArrayList<>()).add(invStack);
+        }
+      }
+
+      final Map<Material, List<ItemStack>> kitStacksByType = new EnumMap<>(Material.class);
       for (ItemStack kitStack : event.getItems()) {
-        for (ItemStack invStack : inv.getContents()) {
-          if (invStack != null) {
-            if (kitStack.getAmount() > 0
-                && kitStack.getType().getMaxDurability() > 0
-                && kitStack.getType().equals(invStack.getType())
-                && kitStack.getEnchantments().equals(invStack.getEnchantments())
-                && kitStack.getDurability() < invStack.getDurability()) {
-
-              invStack.setDurability(kitStack.getDurability());
-              kitStack.setAmount(0);
-              break;
+        if (invStacksByType.containsKey(kitStack.getType())) {
+          kitStacksByType.computeIfAbsent(kitStack.getType(), t -> new ArrayList<>()).add(kitStack);
+        }
+      }
+
+      if (!kitStacksByType.isEmpty()) {
+        // Tools in the player's inv are repaired using matching tools in the kit with less damage
+        for (List<ItemStack> kitStacks : kitStacksByType.values()) {
+          for (ItemStack kitStack : kitStacks) {
+            if (kitStack.getType().getMaxDurability() <= 0) continue;
+
+            for (ItemStack invStack : invStacksByType.get(kitStack.getType())) {
+              if (kitStack.getAmount() > 0
+                  && kitStack.getDurability() < invStack.getDurability()
+                  && kitStack.getEnchantments().equals(invStack.getEnchantments())) {
+
+                invStack.setDurability(kitStack.getDurability());
+                kitStack.setAmount(0);
+                break;
+              }
             }
           }
         }
-      }
 
-      // Items in the player's inv that stack with kit items are deducted from the kit
-      for (ItemStack invStackOrig : inv.getContents()) {
-        if (invStackOrig != null) {
-          ItemStack invStack = invStackOrig.clone();
-          for (ItemStack kitStack : event.getItems()) {
+        // Items in the player's inv that stack with kit items are deducted from the kit
+        for (ItemStack invStack : contents) {
+          if (invStack == null) continue;
+
+          final List<ItemStack> kitStacks = kitStacksByType.get(invStack.getType());
+          if (kitStacks == null) continue;
+
+          int invAmount = invStack.getAmount();
+          for (ItemStack kitStack : kitStacks) {
             if (kitStack.isSimilar(invStack)) {
-              int reduce = Math.min(invStack.getAmount(), kitStack.getAmount());
+              int reduce = Math.min(invAmount, kitStack.getAmount());
               if (reduce > 0) {
-                invStack.setAmount(invStack.getAmount() - reduce);
+                invAmount -= reduce;
                 kitStack.setAmount(kitStack.getAmount() - reduce);
               }
             }
           }
         }
-      }
 
-      // Fill partial stacks of kit items that are already in the player's inv.
-      // We must do this in a seperate pass so that kit stacks don't combine with
-      // other kit stacks.
-      for (ItemStack kitStack : event.getItems()) {
-        for (ItemStack invStack : inv.getContents()) {
-          if (invStack != null && kitStack.isSimilar(invStack)) {
-            int transfer =
-                Math.min(kitStack.getAmount(), invStack.getMaxStackSize() - invStack.getAmount());
-            if (transfer > 0) {
-              kitStack.setAmount(kitStack.getAmount() - transfer);
-              invStack.setAmount(invStack.getAmount() + transfer);
+        // Fill partial stacks of kit items that are already in the player's inv.
+        // We must do this in a seperate pass so that kit stacks don't combine with
+        // other kit stacks.
+        for (List<ItemStack> kitStacks : kitStacksByType.values()) {
+          for (ItemStack kitStack : kitStacks) {
+            for (ItemStack invStack : invStacksByType.get(kitStack.getType())) {
+              if (kitStack.isSimilar(invStack)) {
+                int transfer =
+                    Math.min(
+                        kitStack.getAmount(), invStack.getMaxStackSize() - invStack.getAmount());
+                if (transfer > 0) {
+                  kitStack.setAmount(kitStack.getAmount() - transfer);
+                  invStack.setAmount(invStack.getAmount() + transfer);
+                }
+              }
             }
           }
         }
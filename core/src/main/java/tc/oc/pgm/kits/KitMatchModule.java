@@ -2,6 +2,9 @@ package tc.oc.pgm.kits;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.bukkit.Material;
 import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Player;
@@ -21,7 +24,9 @@ import tc.oc.pgm.api.event.ItemTransferEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.match.Tickable;
 import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.api.time.Tick;
 import tc.oc.pgm.events.ListenerScope;
 import tc.oc.pgm.events.PlayerResetEvent;
 import tc.oc.pgm.kits.tag.Grenade;
@@ -29,10 +34,11 @@ import tc.oc.pgm.kits.tag.ItemTags;
 import tc.oc.util.bukkit.nms.NMSHacks;
 
 @ListenerScope(MatchScope.RUNNING)
-public class KitMatchModule implements MatchModule, Listener {
+public class KitMatchModule implements MatchModule, Listener, Tickable {
 
   private final Match match;
   private final SetMultimap<MatchPlayer, ArmorType> lockedArmorSlots = HashMultimap.create();
+  private final Map<MatchPlayer, Long> healthChecks = new LinkedHashMap<>();
 
   public KitMatchModule(Match match) {
     this.match = match;
@@ -43,6 +49,37 @@ public class KitMatchModule implements MatchModule, Listener {
     this.lockedArmorSlots.clear();
   }
 
+  @Override
+  public void unload() {
+    this.healthChecks.clear();
+  }
+
+  /**
+   * Limit the health of a player to their max health on the next tick, once any kit that lowered
+   * their max health has taken effect. Players are checked together, once per tick.
+   */
+  public void checkHealthLater(MatchPlayer player) {
+    this.healthChecks.putIfAbsent(player, match.getTick().tick);
+  }
+
+  @Override
+  public void tick(Match match, Tick tick) {
+    if (healthChecks.isEmpty()) return;
+
+    final Iterator<Map.Entry<MatchPlayer, Long>> iterator = healthChecks.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<MatchPlayer, Long> entry = iterator.next();
+      if (entry.getValue() >= tick.tick) continue;
+      iterator.remove();
+
+      final MatchPlayer player = entry.getKey();
+      final Player bukkit = player.getBukkit();
+      if (bukkit.isOnline() && !player.isDead() && bukkit.getMaxHealth() < 20) {
+        bukkit.setHealth(Math.min(bukkit.getHealth(), bukkit.getMaxHealth()));
+      }
+    }
+  }
+
   public boolean lockArmorSlot(MatchPlayer player, ArmorType armorType, boolean locked) {
     if (locked) {
       return this.lockedArmorSlots.put(player, armorType);
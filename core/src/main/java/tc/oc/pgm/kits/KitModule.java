@@ -1,5 +1,7 @@
 package tc.oc.pgm.kits;
 
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
 import java.util.logging.Logger;
 import org.bukkit.inventory.ItemStack;
 import org.jdom2.Document;
@@ -11,6 +13,7 @@ import tc.oc.pgm.api.map.factory.MapModuleFactory;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.itemmeta.ItemModifyModule;
+import tc.oc.pgm.teams.TeamModule;
 import tc.oc.util.xml.InvalidXMLException;
 
 public class KitModule implements MapModule {
@@ -21,6 +24,11 @@ public class KitModule implements MapModule {
   }
 
   public static class Factory implements MapModuleFactory<KitModule> {
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(TeamModule.class);
+    }
+
     @Override
     public KitModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
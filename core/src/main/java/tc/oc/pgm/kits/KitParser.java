@@ -16,6 +16,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import org.bukkit.Color;
@@ -51,8 +52,9 @@ import tc.oc.util.xml.XMLUtils;
 
 public abstract class KitParser {
   protected final MapFactory factory;
-  protected final Set<AttributeModifier> attributeModifiers = new HashSet<>();
-  protected final Set<Kit> kits = new HashSet<>();
+  // Modules can parse kits concurrently
+  protected final Set<AttributeModifier> attributeModifiers = ConcurrentHashMap.newKeySet();
+  protected final Set<Kit> kits = ConcurrentHashMap.newKeySet();
 
   public KitParser(MapFactory factory) {
     this.factory = factory;
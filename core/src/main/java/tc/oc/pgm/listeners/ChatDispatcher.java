@@ -3,16 +3,22 @@ package tc.oc.pgm.listeners;
 import app.ashcon.intake.Command;
 import app.ashcon.intake.argument.ArgumentException;
 import app.ashcon.intake.parametric.annotation.Text;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.logging.Level;
 import javax.annotation.Nullable;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
@@ -22,6 +28,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.scheduler.BukkitTask;
 import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.Permissions;
 import tc.oc.pgm.api.match.Match;
@@ -31,8 +38,9 @@ import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.setting.SettingKey;
 import tc.oc.pgm.api.setting.SettingValue;
 import tc.oc.pgm.commands.SettingCommands;
+import tc.oc.pgm.events.PlayerPartyChangeEvent;
 import tc.oc.pgm.ffa.Tribute;
-import tc.oc.util.StringUtils;
+import tc.oc.pgm.modules.PlayerNameMatchModule;
 import tc.oc.util.bukkit.BukkitUtils;
 import tc.oc.util.bukkit.OnlinePlayerMapAdapter;
 import tc.oc.util.bukkit.chat.Audience;
@@ -45,11 +53,39 @@ import tc.oc.util.bukkit.named.NameStyle;
 
 public class ChatDispatcher implements Listener {
 
+  /** Number of messages that can wait to be dispatched, from all players. */
+  private static final int QUEUE_SIZE = 256;
+
+  /** Number of messages that can wait to be dispatched, from a single player. */
+  private static final int MAX_PENDING = 3;
+
+  /** Ticks between checks for players that were given admin chat permission. */
+  private static final long OPERATOR_REFRESH = 100;
+
   private final MatchManager manager;
   private final OnlinePlayerMapAdapter<UUID> lastMessagedBy;
 
   private final Set<UUID> muted;
 
+  // Players with admin chat permission, updated as they change party and every few seconds
+  private final Set<MatchPlayer> operators = ConcurrentHashMap.newKeySet();
+  private final BukkitTask refreshOperators;
+
+  // Messages are dispatched in order by a single thread, and dropped if too many are waiting
+  private final ExecutorService executor =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(QUEUE_SIZE),
+          runnable -> {
+            final Thread thread = new Thread(runnable, "PGM Chat Dispatcher");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private final Map<UUID, Integer> pending = new ConcurrentHashMap<>();
+
   private static final Sound DM_SOUND = new Sound("random.orb", 1f, 1.2f);
   private static final Sound AC_SOUND = new Sound("random.orb", 1f, 0.7f);
 
@@ -79,6 +115,9 @@ public class ChatDispatcher implements Listener {
     this.manager = manager;
     this.lastMessagedBy = new OnlinePlayerMapAdapter<>(PGM.get());
     this.muted = Sets.newHashSet();
+    this.refreshOperators =
+        Bukkit.getScheduler()
+            .runTaskTimer(PGM.get(), this::refreshOperators, OPERATOR_REFRESH, OPERATOR_REFRESH);
   }
 
   public void addMuted(MatchPlayer player) {
@@ -102,7 +141,7 @@ public class ChatDispatcher implements Listener {
       desc = "Send a message to everyone",
       usage = "[message]")
   public void sendGlobal(Match match, MatchPlayer sender, @Nullable @Text String message) {
-    send(match, sender, message, GLOBAL_FORMAT, viewer -> true, SettingValue.CHAT_GLOBAL);
+    send(match, sender, message, GLOBAL_FORMAT, match.getPlayers(), SettingValue.CHAT_GLOBAL);
   }
 
   @Command(
@@ -123,10 +162,7 @@ public class ChatDispatcher implements Listener {
         sender,
         message,
         party.getChatPrefix().toLegacyText() + PREFIX_FORMAT,
-        viewer ->
-            party.equals(viewer.getParty())
-                || (viewer.isObserving()
-                    && viewer.getBukkit().hasPermission(Permissions.ADMINCHAT)),
+        getTeamRecipients(match, party),
         SettingValue.CHAT_TEAM);
   }
 
@@ -149,15 +185,16 @@ public class ChatDispatcher implements Listener {
         sender,
         message != null ? BukkitUtils.colorize(message) : message,
         ADMIN_CHAT_PREFIX.toLegacyText() + PREFIX_FORMAT,
-        AC_FILTER,
+        getOperators(match),
         SettingValue.CHAT_ADMIN);
 
     // Play sounds for admin chat
     if (message != null) {
-      match.getPlayers().stream()
-          .filter(AC_FILTER) // Initial filter
-          .filter(viewer -> !viewer.equals(sender)) // Don't play sound for sender
-          .forEach(pl -> playSound(pl, AC_SOUND));
+      for (MatchPlayer viewer : getOperators(match)) {
+        if (!viewer.equals(sender)) { // Don't play sound for sender
+          playSound(viewer, AC_SOUND);
+        }
+      }
     }
   }
 
@@ -191,32 +228,31 @@ public class ChatDispatcher implements Listener {
                 .getPersonalizedText()
                 .color(ChatColor.RED));
         return; // Only allow staff to message muted players
-      } else {
-        playSound(matchReceiver, DM_SOUND);
       }
     }
 
-    if (sender != null) {
+    final String text = message.trim();
+    final String fromFormat =
+        formatPrivateMessage("commands.message.from", matchReceiver.getBukkit());
+    final String toFormat = formatPrivateMessage("commands.message.to", sender.getBukkit());
+    final Set<Player> to = Collections.singleton(matchReceiver.getBukkit());
+    final Set<Player> from = Collections.singleton(sender.getBukkit());
+
+    // Both halves count once against the sender, and the echo only follows a delivered message
+    final boolean accepted =
+        dispatch(
+            sender,
+            () -> {
+              if (deliver(match, sender, text, fromFormat, to)) {
+                // Echo as the receiver, who may be in another match
+                deliver(match, matchReceiver, text, toFormat, from);
+              }
+            });
+
+    if (accepted) {
       lastMessagedBy.put(receiver, sender.getId());
+      playSound(matchReceiver, DM_SOUND);
     }
-
-    // Send message to receiver
-    send(
-        match,
-        sender,
-        message,
-        formatPrivateMessage("commands.message.from", matchReceiver.getBukkit()),
-        viewer -> viewer.getBukkit().equals(receiver),
-        null);
-
-    // Send message to the sender
-    send(
-        match,
-        manager.getPlayer(receiver), // Allow for cross-match messages
-        message,
-        formatPrivateMessage("commands.message.to", sender.getBukkit()),
-        viewer -> viewer.getBukkit().equals(sender.getBukkit()),
-        null);
   }
 
   private String formatPrivateMessage(String key, CommandSender viewer) {
@@ -243,12 +279,9 @@ public class ChatDispatcher implements Listener {
 
   @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
   public void onChat(AsyncPlayerChatEvent event) {
-    if (CHAT_EVENT_CACHE.getIfPresent(event) == null) {
-      event.setCancelled(true);
-    } else {
-      CHAT_EVENT_CACHE.invalidate(event);
-      return;
-    }
+    // Let through the events fired by the dispatcher itself
+    if (event instanceof DispatchedChatEvent) return;
+    event.setCancelled(true);
 
     final MatchPlayer player = manager.getPlayer(event.getPlayer());
     if (player != null) {
@@ -304,15 +337,74 @@ public class ChatDispatcher implements Listener {
     }
   }
 
-  private static final Cache<AsyncPlayerChatEvent, Boolean> CHAT_EVENT_CACHE =
-      CacheBuilder.newBuilder().weakKeys().expireAfterWrite(15, TimeUnit.SECONDS).build();
+  /** Stop dispatching messages, and drop any that are still waiting. */
+  public void shutdown() {
+    refreshOperators.cancel();
+    executor.shutdownNow();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void updateOperators(final PlayerPartyChangeEvent event) {
+    updateOperator(event.getPlayer(), event.getNewParty() != null);
+  }
+
+  private void updateOperator(MatchPlayer player, boolean present) {
+    if (present && AC_FILTER.test(player)) {
+      operators.add(player);
+    } else {
+      operators.remove(player);
+    }
+  }
+
+  /**
+   * Index players that were given admin chat permission since they last changed party. There is no
+   * event for permission changes, so this is the only way to find them without a full scan per
+   * message.
+   */
+  private void refreshOperators() {
+    manager
+        .getMatches()
+        .forEachRemaining(match -> match.getPlayers().forEach(p -> updateOperator(p, true)));
+  }
+
+  /**
+   * Get the players in a match that can see admin chat. Only indexed operators are checked, so a
+   * revoked permission applies to the next message, and a granted one after the next refresh.
+   */
+  private Set<MatchPlayer> getOperators(Match match) {
+    final Set<MatchPlayer> recipients = new HashSet<>();
+    for (MatchPlayer operator : operators) {
+      if (operator.getMatch() == match && AC_FILTER.test(operator)) {
+        recipients.add(operator);
+      }
+    }
+    return recipients;
+  }
+
+  /** Get the members of a party, and the observers that can see admin chat. */
+  private Set<MatchPlayer> getTeamRecipients(Match match, Party party) {
+    final Set<MatchPlayer> recipients = new HashSet<>(party.getPlayers());
+    for (MatchPlayer operator : getOperators(match)) {
+      if (operator.isObserving()) {
+        recipients.add(operator);
+      }
+    }
+    return recipients;
+  }
+
+  /** A chat event fired by the dispatcher, which should not be dispatched again. */
+  private static class DispatchedChatEvent extends AsyncPlayerChatEvent {
+    private DispatchedChatEvent(Player who, String message, Set<Player> recipients) {
+      super(true, who, message, recipients);
+    }
+  }
 
   public void send(
       Match match,
       MatchPlayer sender,
       @Nullable String text,
       String format,
-      Predicate<MatchPlayer> filter,
+      Collection<MatchPlayer> recipients,
       @Nullable SettingValue type) {
     // When a message is empty, this indicates the player wants to change their default chat channel
     if (text == null) {
@@ -333,47 +425,82 @@ public class ChatDispatcher implements Listener {
     final String message = text.trim();
 
     if (sender != null) {
-      Bukkit.getScheduler()
-          .runTaskAsynchronously(
-              PGM.get(),
-              () -> {
-                final AsyncPlayerChatEvent event =
-                    new AsyncPlayerChatEvent(
-                        false,
-                        sender.getBukkit(),
-                        message,
-                        match.getPlayers().stream()
-                            .filter(filter)
-                            .map(MatchPlayer::getBukkit)
-                            .collect(Collectors.toSet()));
-                event.setFormat(format);
-                CHAT_EVENT_CACHE.put(event, true);
-                match.callEvent(event);
-
-                if (event.isCancelled()) {
-                  return;
-                }
-
-                final String finalMessage =
-                    String.format(event.getFormat(), sender.getBukkit().getDisplayName(), message);
-                event.getRecipients().forEach(player -> player.sendMessage(finalMessage));
-              });
+      final Set<Player> players = new HashSet<>(recipients.size());
+      for (MatchPlayer recipient : recipients) {
+        players.add(recipient.getBukkit());
+      }
+
+      dispatch(sender, () -> deliver(match, sender, message, format, players));
       return;
     }
 
     final String finalMessage =
         String.format(format, CONSOLE.toLegacyText() + ChatColor.RESET, message);
-    match.getPlayers().stream().filter(filter).forEach(player -> player.sendMessage(finalMessage));
+    recipients.forEach(player -> player.sendMessage(finalMessage));
+  }
+
+  /**
+   * Call a chat event for a message on the dispatcher thread, and send the message to the
+   * recipients that are left, unless the event was cancelled.
+   *
+   * @return whether the message was sent
+   */
+  private boolean deliver(
+      Match match, MatchPlayer sender, String message, String format, Set<Player> recipients) {
+    final AsyncPlayerChatEvent event =
+        new DispatchedChatEvent(sender.getBukkit(), message, new HashSet<>(recipients));
+    event.setFormat(format);
+    match.callEvent(event);
+
+    if (event.isCancelled()) {
+      return false;
+    }
+
+    final String finalMessage =
+        String.format(event.getFormat(), sender.getBukkit().getDisplayName(), message);
+    event.getRecipients().forEach(player -> player.sendMessage(finalMessage));
+    return true;
+  }
+
+  /**
+   * Run a message on the dispatcher thread, unless the sender or everyone else already has too many
+   * messages waiting, in which case the message is dropped and the sender is warned.
+   *
+   * @return whether the message will be run
+   */
+  private boolean dispatch(MatchPlayer sender, Runnable task) {
+    final UUID id = sender.getId();
+    if (pending.merge(id, 1, Integer::sum) > MAX_PENDING) {
+      release(id);
+      sender.sendWarning(new PersonalizedTranslatable("commands.chat.rateLimited"), true);
+      return false;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              task.run();
+            } catch (Throwable t) {
+              PGM.get().getLogger().log(Level.WARNING, "Could not dispatch chat message", t);
+            } finally {
+              release(id);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      release(id);
+      sender.sendWarning(new PersonalizedTranslatable("commands.chat.rateLimited"), true);
+      return false;
+    }
+    return true;
+  }
+
+  private void release(UUID id) {
+    pending.computeIfPresent(id, (key, count) -> count > 1 ? count - 1 : null);
   }
 
   private MatchPlayer getApproximatePlayer(Match match, String query, CommandSender sender) {
-    return StringUtils.bestFuzzyMatch(
-        query,
-        match.getPlayers().stream()
-            .collect(
-                Collectors.toMap(
-                    player -> player.getBukkit().getName(sender), Function.identity())),
-        0.75);
+    return match.needModule(PlayerNameMatchModule.class).bestFuzzyMatch(query, sender, 0.75);
   }
 
   private void sendMutedMessage(MatchPlayer player) {
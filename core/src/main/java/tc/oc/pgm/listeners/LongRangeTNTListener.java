@@ -5,6 +5,7 @@ import org.bukkit.Effect;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TNTPrimed;
@@ -15,8 +16,11 @@ import org.bukkit.event.entity.EntityDespawnInVoidEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.ExplosionPrimeEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -32,6 +36,7 @@ public class LongRangeTNTListener implements Listener {
   private static final double MIN_DISTANCE_SQ = 56 * 56; // Minimum square distance to show fake TNT
   private static final double HEAD_HEIGHT = 1.7; // Offset of real TNT relative to fake TNT
   private static final int MAX_FAKE_TNT = 16; // Max simultaneous fake TNT per player
+  private static final int CELL_SIZE = 56; // Players closer than the minimum are in adjacent cells
 
   private class Slot {
     final UUID uuid;
@@ -49,6 +54,13 @@ public class LongRangeTNTListener implements Listener {
     final Map<Slot, TNT> slotsOwned = new HashMap<>();
     final Map<Slot, TNT> slotsUnowned = new HashMap<>();
     final Set<Slot> slotsFree = new HashSet<>();
+    final List<TNT> pendingUpdates = new ArrayList<>();
+
+    // Last known position, and where the view is in the grids
+    World world;
+    double x, y, z;
+    int cellX, cellZ;
+    long cell;
 
     private View(Player player) {
       this.player = player;
@@ -91,6 +103,70 @@ public class LongRangeTNTListener implements Listener {
       this.slotsOwned.clear();
 
       this.slotsFree.addAll(Arrays.asList(slots));
+      this.pendingUpdates.clear();
+      this.updateOpen();
+    }
+
+    public void moveTo(Location location) {
+      final World oldWorld = this.world;
+      final long oldCell = this.cell;
+
+      this.world = location.getWorld();
+      this.x = location.getX();
+      this.y = location.getY();
+      this.z = location.getZ();
+      this.cellX = cellCoord(this.x);
+      this.cellZ = cellCoord(this.z);
+      this.cell = cellKey(this.cellX, this.cellZ);
+
+      if (this.world != oldWorld || this.cell != oldCell) {
+        if (oldWorld != null) {
+          final Grid grid = grids.get(oldWorld);
+          if (grid != null) grid.remove(this, oldCell);
+        }
+        if (this.world != null) {
+          grid(this.world).add(this);
+        }
+      }
+    }
+
+    public void remove() {
+      if (this.world != null) {
+        final Grid grid = grids.get(this.world);
+        if (grid != null) grid.remove(this, this.cell);
+        this.world = null;
+      }
+    }
+
+    public double distanceSquared(Location location) {
+      final double dx = this.x - location.getX();
+      final double dy = this.y - location.getY();
+      final double dz = this.z - location.getZ();
+      return dx * dx + dy * dy + dz * dz;
+    }
+
+    /** Whether a location is within the cells this view can render, by the server view distance. */
+    public boolean canRender(Location location) {
+      return Math.abs(cellCoord(location.getX()) - this.cellX) <= renderCells
+          && Math.abs(cellCoord(location.getZ()) - this.cellZ) <= renderCells;
+    }
+
+    /** Keep track of whether this view can show more TNT, so full views are not offered any. */
+    private void updateOpen() {
+      if (this.world == null) return;
+      final Grid grid = grid(this.world);
+      if (this.slotsFree.isEmpty()) {
+        removeFromCell(grid.open, this.cell, this);
+      } else {
+        grid.open.computeIfAbsent(this.cell, cell -> new HashSet<>()).add(this);
+      }
+    }
+
+    public void flushUpdates() {
+      for (TNT tnt : this.pendingUpdates) {
+        this.send(tnt.movePacket);
+      }
+      this.pendingUpdates.clear();
     }
 
     public void sendCreate(Slot slot, TNT tnt) {
@@ -109,7 +185,7 @@ public class LongRangeTNTListener implements Listener {
     }
 
     public void sendUpdate(TNT tnt) {
-      this.send(tnt.movePacket);
+      this.pendingUpdates.add(tnt);
     }
 
     public void sendExplosion(TNT tnt) {
@@ -133,6 +209,7 @@ public class LongRangeTNTListener implements Listener {
         (owned ? this.slotsOwned : this.slotsUnowned).put(slot, tnt);
         tnt.views.put(this, slot);
         this.sendCreate(slot, tnt);
+        this.updateOpen();
         return true;
       } else {
         return false;
@@ -146,9 +223,82 @@ public class LongRangeTNTListener implements Listener {
       this.slotsUnowned.remove(slot);
       this.slotsOwned.remove(slot);
       this.slotsFree.add(slot);
+      this.pendingUpdates.remove(tnt);
+      this.updateOpen();
     }
   }
 
+  /** Views in one world, hashed by their horizontal position. */
+  private class Grid {
+    final Map<Long, Set<View>> cells = new HashMap<>();
+    final Map<Long, Set<View>> open = new HashMap<>(); // Views with a free slot
+
+    void add(View view) {
+      this.cells.computeIfAbsent(view.cell, cell -> new HashSet<>()).add(view);
+      view.updateOpen();
+    }
+
+    void remove(View view, long cell) {
+      removeFromCell(this.cells, cell, view);
+      removeFromCell(this.open, cell, view);
+    }
+
+    /** Collect the views with a free slot that can render a location. */
+    void open(Location location, List<View> into) {
+      final int cellX = cellCoord(location.getX());
+      final int cellZ = cellCoord(location.getZ());
+
+      for (int x = cellX - renderCells; x <= cellX + renderCells; x++) {
+        for (int z = cellZ - renderCells; z <= cellZ + renderCells; z++) {
+          final Set<View> views = this.open.get(cellKey(x, z));
+          if (views != null) into.addAll(views);
+        }
+      }
+    }
+
+    /** Views that are too close to a location to be shown fake TNT there. */
+    Set<View> near(Location location) {
+      final int cellX = cellCoord(location.getX());
+      final int cellZ = cellCoord(location.getZ());
+      Set<View> near = Collections.emptySet();
+
+      for (int x = cellX - 1; x <= cellX + 1; x++) {
+        for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+          final Set<View> views = this.cells.get(cellKey(x, z));
+          if (views == null) continue;
+
+          for (View view : views) {
+            if (view.distanceSquared(location) < MIN_DISTANCE_SQ) {
+              if (near.isEmpty()) near = new HashSet<>();
+              near.add(view);
+            }
+          }
+        }
+      }
+
+      return near;
+    }
+  }
+
+  private static int cellCoord(double coord) {
+    return (int) Math.floor(coord / CELL_SIZE);
+  }
+
+  private static long cellKey(int cellX, int cellZ) {
+    return (long) cellX << 32 | (cellZ & 0xFFFFFFFFL);
+  }
+
+  private static void removeFromCell(Map<Long, Set<View>> cells, long cell, View view) {
+    final Set<View> views = cells.get(cell);
+    if (views != null && views.remove(view) && views.isEmpty()) {
+      cells.remove(cell);
+    }
+  }
+
+  private Grid grid(World world) {
+    return this.grids.computeIfAbsent(world, w -> new Grid());
+  }
+
   private class TNT {
     final Map<View, Slot> views = new HashMap<>();
 
@@ -196,20 +346,39 @@ public class LongRangeTNTListener implements Listener {
 
       this.updateMovePacket();
 
-      for (Player player : this.entity.getWorld().getPlayers()) {
-        View view = viewsByPlayer.get(player);
-        if (view != null) {
-          double distance = player.getLocation().distanceSquared(this.location);
-          if (this.views.containsKey(view)) {
-            if (distance < MIN_DISTANCE_SQ) {
-              view.hide(this, false);
-            } else {
-              view.sendUpdate(this);
-            }
-          } else if (distance >= MIN_DISTANCE_SQ) {
+      final World world = this.entity.getWorld();
+      final Grid grid = grids.get(world);
+      final Set<View> near = grid == null ? Collections.<View>emptySet() : grid.near(this.location);
+
+      for (View view : new ArrayList<>(this.views.keySet())) {
+        if (view.world != world || near.contains(view) || !view.canRender(this.location)) {
+          view.hide(this, false);
+        } else {
+          view.sendUpdate(this);
+        }
+      }
+
+      // Showing can fill a view and take it out of its open cell, so candidates are buffered
+      if (grid != null) {
+        grid.open(this.location, candidates);
+        for (View view : candidates) {
+          if (!this.views.containsKey(view) && !near.contains(view)) {
             view.show(this);
           }
         }
+        candidates.clear();
+      }
+
+      // Owners can replace TNT they do not own, even if they have no free slot
+      final ParticipantState owner = Trackers.getOwner(this.entity);
+      final View ownerView =
+          owner == null ? null : viewsByPlayer.get(plugin.getServer().getPlayer(owner.getId()));
+      if (ownerView != null
+          && ownerView.world == world
+          && !this.views.containsKey(ownerView)
+          && !near.contains(ownerView)
+          && ownerView.canRender(this.location)) {
+        ownerView.show(this);
       }
 
       return false;
@@ -219,12 +388,16 @@ public class LongRangeTNTListener implements Listener {
   private final Plugin plugin;
 
   private final Slot[] slots = new Slot[MAX_FAKE_TNT];
+  private final int renderCells; // Cells around a view that its client can render
+  private final List<View> candidates = new ArrayList<>();
 
   private final Map<Player, View> viewsByPlayer = new HashMap<>();
+  private final Map<World, Grid> grids = new HashMap<>();
   private final Map<TNTPrimed, TNT> tntByEntity = new HashMap<>();
 
   public LongRangeTNTListener(Plugin plugin) {
     this.plugin = plugin;
+    this.renderCells = (int) Math.ceil(plugin.getServer().getViewDistance() * 16.0 / CELL_SIZE);
 
     for (int i = 0; i < slots.length; i++) {
       this.slots[i] = new Slot();
@@ -253,6 +426,13 @@ public class LongRangeTNTListener implements Listener {
         iter.remove();
       }
     }
+
+    // Send each viewer all of their moves at once
+    for (View view : this.viewsByPlayer.values()) {
+      if (!view.pendingUpdates.isEmpty()) {
+        view.flushUpdates();
+      }
+    }
   }
 
   private void addTNT(Entity entity) {
@@ -273,20 +453,50 @@ public class LongRangeTNTListener implements Listener {
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onPlayerJoin(final PlayerJoinEvent event) {
     if (ViaUtils.getProtocolVersion(event.getPlayer()) >= ViaUtils.VERSION_1_8) {
-      this.viewsByPlayer.put(event.getPlayer(), new View(event.getPlayer()));
+      View view = new View(event.getPlayer());
+      this.viewsByPlayer.put(event.getPlayer(), view);
+      view.moveTo(event.getPlayer().getLocation());
     }
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onPlayerQuit(PlayerQuitEvent event) {
     View view = this.viewsByPlayer.remove(event.getPlayer());
-    if (view != null) view.forgetAll();
+    if (view != null) {
+      view.forgetAll();
+      view.remove();
+    }
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onPlayerRespawn(PlayerRespawnEvent event) {
     View view = this.viewsByPlayer.get(event.getPlayer());
-    if (view != null) view.forgetAll();
+    if (view != null) {
+      view.forgetAll();
+      view.moveTo(event.getRespawnLocation());
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerMove(PlayerMoveEvent event) {
+    View view = this.viewsByPlayer.get(event.getPlayer());
+    if (view != null) view.moveTo(event.getTo());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerTeleport(PlayerTeleportEvent event) {
+    View view = this.viewsByPlayer.get(event.getPlayer());
+    if (view != null) view.moveTo(event.getTo());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onVehicleMove(VehicleMoveEvent event) {
+    // Players riding a vehicle do not fire their own move events
+    final Entity passenger = event.getVehicle().getPassenger();
+    if (passenger instanceof Player) {
+      View view = this.viewsByPlayer.get(passenger);
+      if (view != null) view.moveTo(event.getTo());
+    }
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -310,5 +520,6 @@ public class LongRangeTNTListener implements Listener {
       tnt.hideAll(false);
     }
     this.tntByEntity.clear();
+    this.grids.remove(event.getWorld());
   }
 }
@@ -55,6 +55,8 @@ import tc.oc.util.bukkit.component.types.PersonalizedTranslatable;
 import tc.oc.util.bukkit.translations.AllTranslations;
 
 public class PGMListener implements Listener {
+  private static final long JOIN_TIMEOUT_TICKS = 20 * 60; // Time for a player to join after login
+
   private final Plugin parent;
   private final MatchManager mm;
 
@@ -117,6 +119,39 @@ public class PGMListener implements Listener {
     }
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void loadPlayerData(final AsyncPlayerPreLoginEvent event) {
+    if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+      final UUID id = event.getUniqueId();
+      PGM.get().getDatastore().loadPlayer(id);
+
+      // Players that disconnect before they join never quit, so release their data after a while
+      parent
+          .getServer()
+          .getScheduler()
+          .runTaskLater(
+              parent,
+              () -> {
+                if (parent.getServer().getPlayer(id) == null) {
+                  PGM.get().getDatastore().unloadPlayer(id);
+                }
+              },
+              JOIN_TIMEOUT_TICKS);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void unloadPlayerDataOnDeny(final PlayerLoginEvent event) {
+    if (event.getResult() != Result.ALLOWED) {
+      PGM.get().getDatastore().unloadPlayer(event.getPlayer().getUniqueId());
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void unloadPlayerData(final PlayerQuitEvent event) {
+    PGM.get().getDatastore().unloadPlayer(event.getPlayer().getUniqueId());
+  }
+
   @EventHandler(priority = EventPriority.LOW)
   public void addPlayerOnJoin(final PlayerJoinEvent event) {
     if (this.mm.getMatch(event.getWorld()) == null) {
@@ -90,7 +90,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule, MapModuleFactory<? ex
     try {
       preLoad();
       try {
-        loadAll();
+        loadAllConcurrently();
       } catch (ModuleLoadException e) {
         if (e.getCause() instanceof InvalidXMLException) {
           throw e.getCause();
@@ -137,7 +137,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule, MapModuleFactory<? ex
   }
 
   @Override
-  public RegionParser getRegions() {
+  public synchronized RegionParser getRegions() {
     if (regions == null) {
       regions = isLegacy() ? new LegacyRegionParser(this) : new FeatureRegionParser(this);
     }
@@ -145,7 +145,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule, MapModuleFactory<? ex
   }
 
   @Override
-  public FilterParser getFilters() {
+  public synchronized FilterParser getFilters() {
     if (filters == null) {
       filters = isLegacy() ? new LegacyFilterParser(this) : new FeatureFilterParser(this);
     }
@@ -153,7 +153,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule, MapModuleFactory<? ex
   }
 
   @Override
-  public KitParser getKits() {
+  public synchronized KitParser getKits() {
     if (kits == null) {
       kits = isLegacy() ? new LegacyKitParser(this) : new FeatureKitParser(this);
     }
@@ -161,7 +161,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule, MapModuleFactory<? ex
   }
 
   @Override
-  public FeatureDefinitionContext getFeatures() {
+  public synchronized FeatureDefinitionContext getFeatures() {
     if (features == null) {
       features = new FeatureDefinitionContext();
     }
@@ -169,7 +169,7 @@ public class MapFactoryImpl extends ModuleGraph<MapModule, MapModuleFactory<? ex
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
     document = null;
     info = null;
     regions = null;
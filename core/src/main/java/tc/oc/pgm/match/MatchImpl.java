@@ -7,11 +7,13 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import java.io.File;
 import java.lang.ref.WeakReference;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
@@ -27,7 +29,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.bukkit.Bukkit;
@@ -79,11 +80,13 @@ import tc.oc.pgm.events.PlayerLeavePartyEvent;
 import tc.oc.pgm.events.PlayerParticipationEvent;
 import tc.oc.pgm.events.PlayerParticipationStartEvent;
 import tc.oc.pgm.events.PlayerParticipationStopEvent;
+import tc.oc.pgm.events.PlayerPartyChangeBatchEvent;
 import tc.oc.pgm.events.PlayerPartyChangeEvent;
 import tc.oc.pgm.features.MatchFeatureContext;
 import tc.oc.pgm.filters.query.MatchQuery;
 import tc.oc.pgm.filters.query.Query;
 import tc.oc.pgm.result.CompetitorVictoryCondition;
+import tc.oc.pgm.ticker.MatchTicker;
 import tc.oc.util.ClassLogger;
 import tc.oc.util.FileUtils;
 import tc.oc.util.bukkit.Events;
@@ -110,17 +113,27 @@ public class MatchImpl implements Match {
   private final EnumMap<MatchScope, Scheduler> schedulers;
   private final EnumMap<MatchScope, Collection<Listener>> listeners;
   private final EnumMap<MatchScope, Collection<Tickable>> tickables;
+  private final MatchTicker ticker;
   private final AtomicReference<Tick> tick;
   private final CountdownContext countdown;
   private final MatchQuery query;
   private final Map<UUID, MatchPlayer> players;
+  private final BitSet playerSlots;
   private final Map<MatchPlayer, Party> partyChanges;
+  private @Nullable Map<MatchPlayer, Party> batchedPartyChanges;
   private final Set<Party> parties;
   private final Set<VictoryCondition> victory;
   private final RankedSet<Competitor> competitors;
   private final Observers observers;
   private final MatchFeatureContext features;
 
+  // Immutable snapshots of the members, rebuilt lazily after the membership changes
+  private final AtomicLong version;
+  private volatile @Nullable Snapshot<MatchPlayer> playersView;
+  private volatile @Nullable Snapshot<MatchPlayer> participantsView;
+  private volatile @Nullable Snapshot<Party> partiesView;
+  private volatile @Nullable Snapshot<Competitor> competitorsView;
+
   protected MatchImpl(String id, MapContext map, World world) {
     this.id = checkNotNull(id);
     this.map = checkNotNull(map);
@@ -143,10 +156,13 @@ public class MatchImpl implements Match {
       listeners.put(scope, new LinkedList<>());
       tickables.put(scope, new CopyOnWriteArraySet<>());
     }
+    this.ticker = new MatchTicker(this);
     this.tick = new AtomicReference<>(null);
     this.countdown = new SingleCountdownContext(this, logger);
     this.query = new MatchQuery(null, this);
     this.players = new ConcurrentHashMap<>();
+    this.playerSlots = new BitSet();
+    this.version = new AtomicLong(0);
     this.partyChanges = new WeakHashMap<>();
     this.parties = new LinkedHashSet<>();
     this.victory = new LinkedHashSet<>();
@@ -239,6 +255,11 @@ public class MatchImpl implements Match {
     return schedulers.get(scope);
   }
 
+  @Override
+  public MatchTicker getTicker() {
+    return ticker;
+  }
+
   @Override
   public void callEvent(Event event) {
     PGM.get().getServer().getPluginManager().callEvent(event);
@@ -389,9 +410,38 @@ public class MatchImpl implements Match {
     }
   }
 
+  /** An immutable collection, tagged with the membership version it was built from. */
+  private static class Snapshot<T> {
+    private final long version;
+    private final Collection<T> values;
+
+    private Snapshot(long version, Collection<T> values) {
+      this.version = version;
+      this.values = values;
+    }
+  }
+
+  private boolean isFresh(@Nullable Snapshot<?> snapshot) {
+    return snapshot != null && snapshot.version == version.get();
+  }
+
+  private void invalidateViews() {
+    version.incrementAndGet();
+  }
+
+  @Override
+  public long getMembershipVersion() {
+    return version.get();
+  }
+
   @Override
   public Collection<MatchPlayer> getPlayers() {
-    return ImmutableList.copyOf(players.values());
+    Snapshot<MatchPlayer> view = playersView;
+    if (!isFresh(view)) {
+      // Tag with the version before copying, so a concurrent change is never cached as fresh
+      playersView = view = new Snapshot<>(version.get(), ImmutableList.copyOf(players.values()));
+    }
+    return view.values;
   }
 
   @Override
@@ -401,9 +451,16 @@ public class MatchImpl implements Match {
 
   @Override
   public Collection<MatchPlayer> getParticipants() {
-    return getCompetitors().stream()
-        .flatMap(c -> c.getPlayers().stream())
-        .collect(Collectors.toList());
+    Snapshot<MatchPlayer> view = participantsView;
+    if (!isFresh(view)) {
+      final long current = version.get();
+      final ImmutableList.Builder<MatchPlayer> builder = ImmutableList.builder();
+      for (Competitor competitor : getCompetitors()) {
+        builder.addAll(competitor.getPlayers());
+      }
+      participantsView = view = new Snapshot<>(current, builder.build());
+    }
+    return view.values;
   }
 
   @Override
@@ -413,7 +470,9 @@ public class MatchImpl implements Match {
       logger.fine("Adding player " + bukkit);
 
       NMSHacks.forceRespawn(bukkit);
-      player = new MatchPlayerImpl(this, bukkit);
+      final int slot = playerSlots.nextClearBit(0);
+      playerSlots.set(slot);
+      player = new MatchPlayerImpl(this, bukkit, slot);
       MatchPlayerAddEvent event = new MatchPlayerAddEvent(player, getDefaultParty());
       callEvent(event);
 
@@ -436,6 +495,32 @@ public class MatchImpl implements Match {
     return setOrClearPlayerParty(player, checkNotNull(party));
   }
 
+  @Override
+  public void batchPartyChanges(Runnable changes) {
+    if (batchedPartyChanges != null) {
+      changes.run();
+      return;
+    }
+
+    final Map<MatchPlayer, Party> oldParties = new LinkedHashMap<>();
+    batchedPartyChanges = oldParties;
+    try {
+      changes.run();
+    } finally {
+      batchedPartyChanges = null;
+
+      // Players that already changed party must still be announced, even if a later change failed
+      if (!oldParties.isEmpty()) {
+        callEvent(new PlayerPartyChangeBatchEvent(this, oldParties));
+      }
+    }
+  }
+
+  @Override
+  public boolean isBatchingPartyChanges() {
+    return batchedPartyChanges != null;
+  }
+
   /**
    * Attempt to add the given player to the given party, and return true if successful. This also
    * handles most of the logic for joining and leaving the match. Doing these things simultaneously
@@ -513,6 +598,7 @@ public class MatchImpl implements Match {
       if (oldParty == null) {
         // Player is joining the match
         this.players.put(player.getId(), player);
+        invalidateViews();
         addTickable(player, MatchScope.LOADED);
       } else {
         // Player is leaving a party
@@ -525,6 +611,12 @@ public class MatchImpl implements Match {
 
         // Update the old party's state
         oldParty.internalRemovePlayer(player);
+        invalidateViews();
+      }
+
+      // Remember the party from before the batch, if there is one
+      if (batchedPartyChanges != null && !batchedPartyChanges.containsKey(player)) {
+        batchedPartyChanges.put(player, oldParty);
       }
 
       // Update the player's state
@@ -537,12 +629,15 @@ public class MatchImpl implements Match {
         // is removed should listen for PlayerMatchLeaveEvent.
         removeTickable(player);
         this.players.remove(player.getId());
+        this.playerSlots.clear(player.getSlot());
+        invalidateViews();
 
         callEvent(new PlayerPartyChangeEvent(player, oldParty, null));
       } else {
         // Player is joining a party
         // Update the new party's state
         newParty.internalAddPlayer(player);
+        invalidateViews();
 
         if (oldParty == null) {
           // If they are not leaving an old party, they are also joining the match
@@ -591,6 +686,20 @@ public class MatchImpl implements Match {
     if (!isRunning()) return false;
 
     competitors.invalidateRanking();
+    return checkVictory();
+  }
+
+  @Override
+  public boolean calculateVictory(Competitor competitor) {
+    if (isFinished()) return true;
+    if (!isRunning()) return false;
+
+    competitors.invalidateRanking(competitor);
+    return checkVictory();
+  }
+
+  private boolean checkVictory() {
+    invalidateViews();
 
     logger.fine("Checking for match finish");
     for (VictoryCondition condition : getVictoryConditions()) {
@@ -611,12 +720,20 @@ public class MatchImpl implements Match {
 
   @Override
   public Collection<Party> getParties() {
-    return ImmutableList.copyOf(parties);
+    Snapshot<Party> view = partiesView;
+    if (!isFresh(view)) {
+      partiesView = view = new Snapshot<>(version.get(), ImmutableList.copyOf(parties));
+    }
+    return view.values;
   }
 
   @Override
   public Collection<Competitor> getCompetitors() {
-    return ImmutableList.copyOf(competitors);
+    Snapshot<Competitor> view = competitorsView;
+    if (!isFresh(view)) {
+      competitorsView = view = new Snapshot<>(version.get(), ImmutableList.copyOf(competitors));
+    }
+    return view.values;
   }
 
   @Override
@@ -629,6 +746,7 @@ public class MatchImpl implements Match {
     if (party instanceof Competitor) {
       competitors.add((Competitor) party);
     }
+    invalidateViews();
 
     callEvent(
         party instanceof Competitor
@@ -651,6 +769,7 @@ public class MatchImpl implements Match {
 
     if (party instanceof Competitor) competitors.remove(party);
     parties.remove(party);
+    invalidateViews();
   }
 
   @Override
@@ -781,6 +900,7 @@ public class MatchImpl implements Match {
         }
       }
 
+      addTickable(ticker, MatchScope.LOADED);
       startListeners(MatchScope.LOADED);
       startTickables(MatchScope.LOADED);
       addParty(observers);
@@ -811,6 +931,7 @@ public class MatchImpl implements Match {
     getScheduler(MatchScope.RUNNING).cancel();
     getScheduler(MatchScope.LOADED).cancel();
     getCountdown().cancelAll();
+    ticker.clear();
     removeListeners(MatchScope.LOADED);
 
     for (MatchModule matchModule : getModules()) {
@@ -829,6 +950,7 @@ public class MatchImpl implements Match {
     parties.clear();
     victory.clear();
     competitors.clear();
+    invalidateViews();
   }
 
   @Override
@@ -11,9 +11,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.bukkit.GameMode;
 import org.bukkit.World;
@@ -25,7 +22,6 @@ import org.bukkit.potion.PotionEffect;
 import tc.oc.pgm.api.PGM;
 import tc.oc.pgm.api.filter.query.PlayerQuery;
 import tc.oc.pgm.api.match.Match;
-import tc.oc.pgm.api.match.MatchScope;
 import tc.oc.pgm.api.party.Competitor;
 import tc.oc.pgm.api.party.Party;
 import tc.oc.pgm.api.player.MatchPlayer;
@@ -36,8 +32,11 @@ import tc.oc.pgm.api.setting.SettingValue;
 import tc.oc.pgm.api.setting.Settings;
 import tc.oc.pgm.api.time.Tick;
 import tc.oc.pgm.events.PlayerResetEvent;
+import tc.oc.pgm.filters.FilterMatchModule;
 import tc.oc.pgm.kits.Kit;
+import tc.oc.pgm.kits.KitMatchModule;
 import tc.oc.pgm.kits.WalkSpeedKit;
+import tc.oc.pgm.visibility.VisibilityMatchModule;
 import tc.oc.util.ClassLogger;
 import tc.oc.util.bukkit.ViaUtils;
 import tc.oc.util.bukkit.chat.PlayerAudience;
@@ -54,6 +53,8 @@ public class MatchPlayerImpl implements MatchPlayer, PlayerAudience, Comparable<
   private final Logger logger;
   private final Match match;
   private final UUID id;
+  private final int slot;
+  private final int hash;
   private final WeakReference<Player> bukkit;
   private final AtomicReference<Party> party;
   private final AtomicReference<PlayerQuery> query;
@@ -62,12 +63,14 @@ public class MatchPlayerImpl implements MatchPlayer, PlayerAudience, Comparable<
   private final AtomicBoolean visible;
   private final AtomicInteger protocolVersion;
 
-  public MatchPlayerImpl(Match match, Player player) {
+  public MatchPlayerImpl(Match match, Player player, int slot) {
     this.logger =
         ClassLogger.get(
             checkNotNull(match).getLogger(), getClass(), checkNotNull(player).getName());
     this.match = match;
     this.id = player.getUniqueId();
+    this.slot = slot;
+    this.hash = 31 * match.hashCode() + id.hashCode();
     this.bukkit = new WeakReference<>(player);
     this.party = new AtomicReference<>(null);
     this.query = new AtomicReference<>(null);
@@ -100,6 +103,11 @@ public class MatchPlayerImpl implements MatchPlayer, PlayerAudience, Comparable<
     return id;
   }
 
+  @Override
+  public int getSlot() {
+    return slot;
+  }
+
   @Override
   public MatchPlayerState getState() {
     final Party party = getParty();
@@ -201,23 +209,8 @@ public class MatchPlayerImpl implements MatchPlayer, PlayerAudience, Comparable<
 
   @Override
   public void resetVisibility() {
-    final Player bukkit = getBukkit();
-
-    bukkit.showInvisibles(isObserving());
-
-    for (MatchPlayer other : getMatch().getPlayers()) {
-      if (canSee(other)) {
-        bukkit.showPlayer(other.getBukkit());
-      } else {
-        bukkit.hidePlayer(other.getBukkit());
-      }
-
-      if (other.canSee(this)) {
-        other.getBukkit().showPlayer(getBukkit());
-      } else {
-        other.getBukkit().hidePlayer(getBukkit());
-      }
-    }
+    getBukkit().showInvisibles(isObserving());
+    getMatch().needModule(VisibilityMatchModule.class).invalidate(this);
   }
 
   @Override
@@ -318,19 +311,12 @@ public class MatchPlayerImpl implements MatchPlayer, PlayerAudience, Comparable<
       getInventory().addItem(stack);
     }
 
-    getMatch()
-        .getScheduler(MatchScope.LOADED)
-        .runTaskLater(
-            1,
-            new Runnable() {
-              @Override
-              public void run() {
-                final Player bukkit = getBukkit();
-                if (bukkit.isOnline() && !isDead() && bukkit.getMaxHealth() < 20) {
-                  bukkit.setHealth(Math.min(bukkit.getHealth(), bukkit.getMaxHealth()));
-                }
-              }
-            });
+    // Any kit can change what the player holds, so cached filter responses are reset
+    final FilterMatchModule filters = getMatch().getModule(FilterMatchModule.class);
+    if (filters != null) filters.invalidate(this);
+
+    final KitMatchModule kits = getMatch().getModule(KitMatchModule.class);
+    if (kits != null) kits.checkHealthLater(this);
   }
 
   @Override
@@ -393,25 +379,23 @@ public class MatchPlayerImpl implements MatchPlayer, PlayerAudience, Comparable<
 
   @Override
   public int compareTo(MatchPlayer o) {
-    return new CompareToBuilder()
-        .append(getMatch(), o.getMatch())
-        .append(getId(), o.getId())
-        .build();
+    if (this == o) return 0;
+    final Match otherMatch = o.getMatch();
+    final int compare = match == otherMatch ? 0 : match.getId().compareTo(otherMatch.getId());
+    return compare != 0 ? compare : id.compareTo(o.getId());
   }
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder().append(getMatch()).append(getId()).build();
+    return hash;
   }
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) return true;
     if (!(obj instanceof MatchPlayer)) return false;
     final MatchPlayer o = (MatchPlayer) obj;
-    return new EqualsBuilder()
-        .append(getMatch(), o.getMatch())
-        .append(getId(), o.getId())
-        .isEquals();
+    return id.equals(o.getId()) && match.equals(o.getMatch());
   }
 
   @Override
@@ -15,6 +15,7 @@ import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.filters.FilterModule;
 import tc.oc.pgm.filters.FilterParser;
 import tc.oc.pgm.filters.StaticFilter;
+import tc.oc.pgm.regions.RegionModule;
 import tc.oc.util.xml.InvalidXMLException;
 import tc.oc.util.xml.XMLUtils;
 
@@ -36,6 +37,11 @@ public class MobsModule implements MapModule {
       return ImmutableList.of(FilterModule.class);
     }
 
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(RegionModule.class);
+    }
+
     @Override
     public MobsModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
@@ -0,0 +1,203 @@
+package tc.oc.pgm.modules;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.events.PlayerJoinMatchEvent;
+import tc.oc.pgm.events.PlayerLeaveMatchEvent;
+import tc.oc.pgm.events.PlayerPartyChangeEvent;
+import tc.oc.util.collection.NameIndex;
+
+/**
+ * Indexes the names of the players in a match, so they can be found by name without scanning every
+ * player, such as for direct messages, command arguments and tab completion.
+ *
+ * <p>Players are indexed by their real name. Players that a viewer sees by another name, such as
+ * disguised players, are indexed separately for that viewer, the first time the viewer looks for a
+ * player. Those names are checked again when a player joins or changes party, or when {@link
+ * #updateName(MatchPlayer)} is called.
+ */
+@ListenerScope(MatchScope.LOADED)
+public class PlayerNameMatchModule implements MatchModule, Listener {
+
+  /** The names that one viewer sees players by, where they differ from their real names. */
+  private static class ViewerNames {
+    private final CommandSender viewer;
+    private final Map<MatchPlayer, String> names = new HashMap<>();
+    private final Map<String, MatchPlayer> players = new HashMap<>();
+
+    private ViewerNames(CommandSender viewer) {
+      this.viewer = viewer;
+    }
+
+    private synchronized void update(MatchPlayer player, @Nullable String name) {
+      final String old = name == null ? names.remove(player) : names.put(player, name);
+      if (old != null) players.remove(old, player);
+      if (name != null) players.put(name, player);
+    }
+
+    private void refresh(MatchPlayer player) {
+      final String name = player.getBukkit().getName(viewer);
+      update(player, name.equals(player.getBukkit().getName()) ? null : name);
+    }
+  }
+
+  private final Match match;
+  private final NameIndex<MatchPlayer> names = new NameIndex<>();
+  private final Map<MatchPlayer, ViewerNames> viewers = new HashMap<>();
+
+  public PlayerNameMatchModule(Match match) {
+    this.match = match;
+  }
+
+  /** Get the names a viewer sees, or null if they see every real name. */
+  private @Nullable ViewerNames getViewerNames(@Nullable CommandSender viewer) {
+    if (!(viewer instanceof Player)) return null;
+
+    final MatchPlayer player = match.getPlayer((Player) viewer);
+    synchronized (viewers) {
+      ViewerNames view = player == null ? null : viewers.get(player);
+      if (view == null) {
+        view = new ViewerNames(viewer);
+        for (MatchPlayer other : match.getPlayers()) view.refresh(other);
+
+        // Viewers from other matches are not kept, since they never leave this one
+        if (player != null) viewers.put(player, view);
+      }
+      return view;
+    }
+  }
+
+  /**
+   * Get the player whose name best matches a query.
+   *
+   * @param query The query, such as part of a name or an abbreviation.
+   * @param viewer The viewer whose names to match, or null for real names.
+   * @param threshold The minimum score of a match, between 0 and 1.
+   * @return The best match, or null if there is none, or if several are equally good.
+   */
+  public @Nullable MatchPlayer bestFuzzyMatch(
+      String query, @Nullable CommandSender viewer, double threshold) {
+    final ViewerNames view = getViewerNames(viewer);
+    if (view == null) return names.bestFuzzyMatch(query, threshold);
+
+    synchronized (view) {
+      if (view.names.isEmpty()) return names.bestFuzzyMatch(query, threshold);
+      return names.bestFuzzyMatch(
+          query, threshold, player -> !view.names.containsKey(player), view.players);
+    }
+  }
+
+  /** Pass every player whose name, as the viewer sees it, starts with a prefix to an action. */
+  private void forEachPrefix(
+      String prefix, @Nullable CommandSender viewer, BiConsumer<String, MatchPlayer> action) {
+    final ViewerNames view = getViewerNames(viewer);
+    if (view == null) {
+      names.forEachPrefix(prefix, action);
+      return;
+    }
+
+    synchronized (view) {
+      names.forEachPrefix(
+          prefix,
+          (name, player) -> {
+            if (!view.names.containsKey(player)) action.accept(name, player);
+          });
+      view.names.forEach(
+          (player, name) -> {
+            if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+              action.accept(name, player);
+            }
+          });
+    }
+  }
+
+  /** Get the players whose name, as the viewer sees it, starts with a prefix. */
+  public List<MatchPlayer> getByPrefix(String prefix, @Nullable CommandSender viewer) {
+    final List<MatchPlayer> players = new ArrayList<>();
+    forEachPrefix(prefix, viewer, (name, player) -> players.add(player));
+    return players;
+  }
+
+  /** Get the names, as the viewer sees them, that start with a prefix, for tab completion. */
+  public List<String> complete(String prefix, @Nullable CommandSender viewer) {
+    final List<String> completions = new ArrayList<>();
+    forEachPrefix(prefix, viewer, (name, player) -> completions.add(name));
+    return completions;
+  }
+
+  /**
+   * Get the player with a name, as the viewer sees it, or else the only player whose name starts
+   * with it, ignoring case.
+   */
+  public @Nullable MatchPlayer getPlayer(String name, @Nullable CommandSender viewer) {
+    final Map<MatchPlayer, String> matches = new LinkedHashMap<>();
+    forEachPrefix(name, viewer, (other, player) -> matches.put(player, other));
+
+    for (Map.Entry<MatchPlayer, String> entry : matches.entrySet()) {
+      if (entry.getValue().equalsIgnoreCase(name)) return entry.getKey();
+    }
+    return matches.size() == 1 ? matches.keySet().iterator().next() : null;
+  }
+
+  /**
+   * Check the names that viewers see a player by again. This should be called whenever those names
+   * change, such as when a player is disguised.
+   */
+  public void updateName(MatchPlayer player) {
+    synchronized (viewers) {
+      for (ViewerNames view : viewers.values()) view.refresh(player);
+    }
+  }
+
+  @Override
+  public void load() {
+    for (MatchPlayer player : match.getPlayers()) {
+      names.add(player.getBukkit().getName(), player);
+    }
+  }
+
+  @Override
+  public void unload() {
+    names.clear();
+    synchronized (viewers) {
+      viewers.clear();
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyChange(final PlayerPartyChangeEvent event) {
+    if (event instanceof PlayerJoinMatchEvent) {
+      names.add(event.getPlayer().getBukkit().getName(), event.getPlayer());
+    }
+
+    // Names are usually changed as players join the match or a team
+    if (event.getNewParty() != null) {
+      updateName(event.getPlayer());
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerLeave(final PlayerLeaveMatchEvent event) {
+    final MatchPlayer player = event.getPlayer();
+    names.remove(player.getBukkit().getName(), player);
+    synchronized (viewers) {
+      viewers.remove(player);
+      for (ViewerNames view : viewers.values()) view.update(player, null);
+    }
+  }
+}
@@ -12,6 +12,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.joda.time.Duration;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.match.MatchScope;
@@ -200,15 +201,7 @@ public class StatsMatchModule implements MatchModule, Listener {
   }
 
   private void sendLongHotbarMessage(MatchPlayer player, Component message) {
-    int taskId =
-        match
-            .getScheduler(MatchScope.LOADED)
-            .runTaskTimer(0, 5, () -> player.sendHotbarMessage(message))
-            .getTaskId();
-
-    match
-        .getScheduler(MatchScope.LOADED)
-        .runTaskLater(20 * 4, () -> Bukkit.getScheduler().cancelTask(taskId));
+    match.getTicker().showHotbarMessage(player, message, Duration.standardSeconds(4));
   }
 
   Component getMessage(String messageKey, Map.Entry<UUID, Integer> mapEntry, ChatColor color) {
@@ -21,6 +21,7 @@ import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.filters.FilterModule;
 import tc.oc.pgm.filters.FilterParser;
 import tc.oc.pgm.kits.KitParser;
+import tc.oc.pgm.regions.RegionModule;
 import tc.oc.util.xml.InvalidXMLException;
 import tc.oc.util.xml.Node;
 import tc.oc.util.xml.XMLUtils;
@@ -39,6 +40,11 @@ public class ProjectileModule implements MapModule {
       return ImmutableList.of(FilterModule.class);
     }
 
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(RegionModule.class);
+    }
+
     @Override
     public ProjectileModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
@@ -1,24 +1,17 @@
 package tc.oc.pgm.proximity;
 
-import com.google.common.collect.Sets;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
 import org.bukkit.ChatColor;
 import org.bukkit.Color;
-import org.bukkit.Location;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
 import org.bukkit.util.Vector;
-import tc.oc.pgm.api.event.CoarsePlayerMoveEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.player.MatchPlayer;
-import tc.oc.pgm.spawns.events.ParticipantDespawnEvent;
-import tc.oc.pgm.spawns.events.ParticipantSpawnEvent;
+import tc.oc.pgm.regions.RegionMembershipMatchModule;
 import tc.oc.util.bukkit.chat.Sound;
 
-public class ProximityAlarm implements Listener {
+public class ProximityAlarm {
   private static final long MESSAGE_INTERVAL = 5000;
   private static final float FLARE_CHANCE = 0.25f;
 
@@ -27,7 +20,7 @@ public class ProximityAlarm implements Listener {
   protected final Random random;
   protected final Match match;
   protected final ProximityAlarmDefinition definition;
-  protected final Set<MatchPlayer> playersInside = Sets.newHashSet();
+  protected RegionMembershipMatchModule.Membership membership;
   protected long lastMessageTime = 0;
 
   public ProximityAlarm(Match match, ProximityAlarmDefinition definition, Random random) {
@@ -36,43 +29,39 @@ public class ProximityAlarm implements Listener {
     this.definition = definition;
   }
 
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void onPlayerMove(final CoarsePlayerMoveEvent event) {
-    updatePlayer(this.match.getPlayer(event.getPlayer()), event.getTo());
-  }
-
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void onPlayerSpawn(final ParticipantSpawnEvent event) {
-    updatePlayer(event.getPlayer(), event.getPlayer().getBukkit().getLocation());
+  /** Start tracking the players inside the detection region. */
+  public void track() {
+    if (this.membership == null) {
+      this.membership =
+          this.match
+              .needModule(RegionMembershipMatchModule.class)
+              .track(this.definition.detectRegion, false);
+    }
   }
 
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void onPlayerDespawn(final ParticipantDespawnEvent event) {
-    this.playersInside.remove(event.getPlayer());
-  }
+  private Set<MatchPlayer> getPlayersInside() {
+    this.track();
 
-  private void updatePlayer(MatchPlayer player, Location location) {
-    if (player != null
-        && player.canInteract()
-        && this.definition.detectFilter.query(player.getQuery()).isAllowed()) {
-      if (!player.isDead() && this.definition.detectRegion.contains(location.toVector())) {
-        this.playersInside.add(player);
-      } else {
-        this.playersInside.remove(player);
+    Set<MatchPlayer> players = new HashSet<>();
+    for (MatchPlayer player : this.membership.getPlayers()) {
+      if (this.definition.detectFilter.query(player.getQuery()).isAllowed()) {
+        players.add(player);
       }
     }
+    return players;
   }
 
   public void showAlarm() {
     if (this.random.nextFloat() < FLARE_CHANCE) {
-      if (!this.playersInside.isEmpty()) {
-        this.showFlare();
+      Set<MatchPlayer> playersInside = this.getPlayersInside();
+      if (!playersInside.isEmpty()) {
+        this.showFlare(playersInside);
         this.showMessage();
       }
     }
   }
 
-  private void showFlare() {
+  private void showFlare(Set<MatchPlayer> playersInside) {
     Vector pos = this.definition.detectRegion.getBounds().getCenterPoint();
     float angle = (float) (this.random.nextFloat() * Math.PI * 2);
 
@@ -84,7 +73,7 @@ public class ProximityAlarm implements Listener {
 
     Set<Color> colors = new HashSet<>();
 
-    for (MatchPlayer player : this.playersInside) {
+    for (MatchPlayer player : playersInside) {
       colors.add(player.getParty().getFullColor());
     }
   }
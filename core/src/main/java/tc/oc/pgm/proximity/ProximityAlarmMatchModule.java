@@ -2,7 +2,6 @@ package tc.oc.pgm.proximity;
 
 import com.google.common.collect.Sets;
 import java.util.Set;
-import org.bukkit.event.HandlerList;
 import org.bukkit.scheduler.BukkitTask;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -25,7 +24,7 @@ public class ProximityAlarmMatchModule implements MatchModule {
   @Override
   public void enable() {
     for (ProximityAlarm proximityAlarm : this.proximityAlarms) {
-      this.match.addListener(proximityAlarm, MatchScope.RUNNING);
+      proximityAlarm.track();
     }
 
     this.task =
@@ -47,9 +46,5 @@ public class ProximityAlarmMatchModule implements MatchModule {
   @Override
   public void disable() {
     this.task.cancel();
-
-    for (ProximityAlarm proximityAlarm : this.proximityAlarms) {
-      HandlerList.unregisterAll(proximityAlarm);
-    }
   }
 }
@@ -13,34 +13,39 @@ import org.bukkit.util.Vector;
 import tc.oc.pgm.api.filter.query.LocationQuery;
 import tc.oc.pgm.api.region.RegionDefinition;
 import tc.oc.pgm.filters.TypedFilter;
-import tc.oc.util.bukkit.block.BlockVectors;
 
 public abstract class AbstractRegion extends TypedFilter<LocationQuery>
     implements RegionDefinition {
 
+  @Override
+  public boolean contains(Vector point) {
+    return this.contains(point.getX(), point.getY(), point.getZ());
+  }
+
   @Override
   public boolean contains(Location point) {
-    return this.contains(point.toVector());
+    return this.contains(point.getX(), point.getY(), point.getZ());
   }
 
   @Override
   public boolean contains(BlockVector blockPos) {
-    return this.contains((Vector) BlockVectors.center(blockPos));
+    return this.contains(
+        blockPos.getBlockX() + 0.5, blockPos.getBlockY() + 0.5, blockPos.getBlockZ() + 0.5);
   }
 
   @Override
   public boolean contains(Block block) {
-    return this.contains(BlockVectors.center(block));
+    return this.contains(block.getX() + 0.5, block.getY() + 0.5, block.getZ() + 0.5);
   }
 
   @Override
   public boolean contains(BlockState block) {
-    return this.contains(BlockVectors.center(block));
+    return this.contains(block.getX() + 0.5, block.getY() + 0.5, block.getZ() + 0.5);
   }
 
   @Override
   public boolean contains(Entity entity) {
-    return this.contains(entity.getLocation().toVector());
+    return this.contains(entity.getLocation());
   }
 
   @Override
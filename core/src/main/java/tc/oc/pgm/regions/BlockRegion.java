@@ -1,6 +1,7 @@
 package tc.oc.pgm.regions;
 
 import java.util.Random;
+import org.bukkit.util.NumberConversions;
 import org.bukkit.util.Vector;
 
 public class BlockRegion extends AbstractRegion {
@@ -11,10 +12,10 @@ public class BlockRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return this.location.getBlockX() == point.getBlockX()
-        && this.location.getBlockY() == point.getBlockY()
-        && this.location.getBlockZ() == point.getBlockZ();
+  public boolean contains(double x, double y, double z) {
+    return this.location.getBlockX() == NumberConversions.floor(x)
+        && this.location.getBlockY() == NumberConversions.floor(y)
+        && this.location.getBlockZ() == NumberConversions.floor(z);
   }
 
   @Override
@@ -74,23 +74,15 @@ public class Bounds implements Cloneable {
     }
   }
 
+  /**
+   * Bounds of the points in one region but not another, which must contain every such point.
+   *
+   * <p>The bounds of the subtracted region may contain points that are not in that region, so
+   * cutting them out of the original bounds could lose points of the complement. The original
+   * bounds are the only bounds that are always large enough.
+   */
   public static Bounds complement(Bounds wrt, Bounds of) {
-    // The booleans reflect if the subtracted set contains the
-    // original set on each axis. The final bounds for each axis
-    // are then the minimum of the two sets, if the other two axes
-    // are containing, otherwise the bounds of the original set.
-    boolean cx = of.min.getX() < wrt.min.getX() && of.max.getX() > wrt.max.getX();
-    boolean cy = of.min.getY() < wrt.min.getY() && of.max.getY() > wrt.max.getY();
-    boolean cz = of.min.getZ() < wrt.min.getZ() && of.max.getZ() > wrt.max.getZ();
-    return new Bounds(
-        new Vector(
-            cy && cz ? Math.max(wrt.min.getX(), of.min.getX()) : wrt.min.getX(),
-            cz && cx ? Math.max(wrt.min.getY(), of.min.getY()) : wrt.min.getY(),
-            cx && cy ? Math.max(wrt.min.getZ(), of.min.getZ()) : wrt.min.getZ()),
-        new Vector(
-            cy && cz ? Math.min(wrt.max.getX(), of.max.getX()) : wrt.max.getX(),
-            cz && cx ? Math.min(wrt.max.getY(), of.max.getY()) : wrt.max.getY(),
-            cx && cy ? Math.min(wrt.max.getZ(), of.max.getZ()) : wrt.max.getZ()));
+    return wrt;
   }
 
   public Bounds translate(Vector offset) {
@@ -126,6 +118,15 @@ public class Bounds implements Cloneable {
     return point.isInAABB(this.min, this.max);
   }
 
+  public boolean contains(double x, double y, double z) {
+    return this.min.getX() <= x
+        && x <= this.max.getX()
+        && this.min.getY() <= y
+        && y <= this.max.getY()
+        && this.min.getZ() <= z
+        && z <= this.max.getZ();
+  }
+
   public boolean contains(Bounds bounds) {
     return this.contains(bounds.min) && this.contains(bounds.max);
   }
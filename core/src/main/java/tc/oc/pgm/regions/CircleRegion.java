@@ -16,10 +16,10 @@ public class CircleRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    double dx = point.getX() - this.x;
-    double dz = point.getZ() - this.z;
-    return Math.pow(dx, 2) + Math.pow(dz, 2) <= this.radiusSq;
+  public boolean contains(double x, double y, double z) {
+    double dx = x - this.x;
+    double dz = z - this.z;
+    return dx * dx + dz * dz <= this.radiusSq;
   }
 
   @Override
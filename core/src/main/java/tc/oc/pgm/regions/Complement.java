@@ -1,6 +1,5 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
 import tc.oc.pgm.api.region.Region;
 
 public class Complement extends AbstractRegion {
@@ -13,8 +12,8 @@ public class Complement extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return this.original.contains(point) && !this.subtracted.contains(point);
+  public boolean contains(double x, double y, double z) {
+    return this.original.contains(x, y, z) && !this.subtracted.contains(x, y, z);
   }
 
   @Override
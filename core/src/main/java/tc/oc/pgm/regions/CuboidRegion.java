@@ -11,8 +11,8 @@ public class CuboidRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return this.bounds.contains(point);
+  public boolean contains(double x, double y, double z) {
+    return this.bounds.contains(x, y, z);
   }
 
   @Override
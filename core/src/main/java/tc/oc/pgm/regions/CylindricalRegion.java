@@ -21,12 +21,13 @@ public class CylindricalRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return point.getY() >= this.base.getY()
-        && point.getY() <= (this.base.getY() + this.height)
-        && Math.pow(point.getX() - this.base.getX(), 2)
-                + Math.pow(point.getZ() - this.base.getZ(), 2)
-            < this.radiusSq;
+  public boolean contains(double x, double y, double z) {
+    if (y < this.base.getY() || y > this.base.getY() + this.height) {
+      return false;
+    }
+    final double dx = x - this.base.getX();
+    final double dz = z - this.base.getZ();
+    return dx * dx + dz * dz < this.radiusSq;
   }
 
   @Override
@@ -1,14 +1,12 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
-
 public class EmptyRegion extends AbstractRegion {
   public static final EmptyRegion INSTANCE = new EmptyRegion();
 
   private EmptyRegion() {}
 
   @Override
-  public boolean contains(Vector point) {
+  public boolean contains(double x, double y, double z) {
     return false;
   }
 
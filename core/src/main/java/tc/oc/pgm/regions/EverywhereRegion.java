@@ -1,7 +1,5 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
-
 /** Wherever you go, here you are */
 public class EverywhereRegion extends AbstractRegion {
   public static final EverywhereRegion INSTANCE = new EverywhereRegion();
@@ -9,7 +7,7 @@ public class EverywhereRegion extends AbstractRegion {
   private EverywhereRegion() {}
 
   @Override
-  public boolean contains(Vector point) {
+  public boolean contains(double x, double y, double z) {
     return true;
   }
 
@@ -13,7 +13,6 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import javax.annotation.Nullable;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
@@ -65,16 +64,18 @@ public class FiniteBlockRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    if (!this.bounds.contains(point)) {
+  public boolean contains(double x, double y, double z) {
+    if (!this.bounds.contains(x, y, z)) {
       return false;
     }
 
-    Location blockLocation = new Location(null, 0, 0, 0);
-
     for (Block block : this.blocks) {
-      block.getLocation(blockLocation);
-      if (BlockVectors.isInside(point, blockLocation)) {
+      if (block.getX() <= x
+          && x <= block.getX() + 1
+          && block.getY() <= y
+          && y <= block.getY() + 1
+          && block.getZ() <= z
+          && z <= block.getZ() + 1) {
         return true;
       }
     }
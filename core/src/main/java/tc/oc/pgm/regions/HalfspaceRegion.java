@@ -12,8 +12,8 @@ public class HalfspaceRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return this.normal.dot(point) >= offset;
+  public boolean contains(double x, double y, double z) {
+    return this.normal.getX() * x + this.normal.getY() * y + this.normal.getZ() * z >= offset;
   }
 
   @Override
@@ -1,6 +1,5 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
 import tc.oc.pgm.api.region.Region;
 
 public class Intersect extends AbstractRegion {
@@ -11,9 +10,9 @@ public class Intersect extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
+  public boolean contains(double x, double y, double z) {
     for (Region region : this.regions) {
-      if (!region.contains(point)) {
+      if (!region.contains(x, y, z)) {
         return false;
       }
     }
@@ -30,4 +30,18 @@ public class MirroredRegion extends TransformedRegion {
   protected Vector untransform(Vector point) {
     return this.transform(point);
   }
+
+  @Override
+  public boolean contains(double x, double y, double z) {
+    final double distance =
+        2
+            * (x * this.normal.getX()
+                + y * this.normal.getY()
+                + z * this.normal.getZ()
+                - this.offset);
+    return this.region.contains(
+        x - distance * this.normal.getX(),
+        y - distance * this.normal.getY(),
+        z - distance * this.normal.getZ());
+  }
 }
@@ -1,6 +1,5 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
 import tc.oc.pgm.api.region.Region;
 
 public class NegativeRegion extends AbstractRegion {
@@ -11,8 +10,8 @@ public class NegativeRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return !this.region.contains(point);
+  public boolean contains(double x, double y, double z) {
+    return !this.region.contains(x, y, z);
   }
 
   @Override
@@ -16,8 +16,12 @@ public class PointRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return position.equals(point);
+  public boolean contains(double x, double y, double z) {
+    // Same tolerance as Vector#equals
+    final double epsilon = Vector.getEpsilon();
+    return Math.abs(position.getX() - x) < epsilon
+        && Math.abs(position.getY() - y) < epsilon
+        && Math.abs(position.getZ() - z) < epsilon;
   }
 
   @Override
@@ -16,9 +16,8 @@ public class RectangleRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return (this.minX <= point.getX() && point.getX() <= this.maxX)
-        && (this.minZ <= point.getZ() && point.getZ() <= this.maxZ);
+  public boolean contains(double x, double y, double z) {
+    return (this.minX <= x && x <= this.maxX) && (this.minZ <= z && z <= this.maxZ);
   }
 
   @Override
@@ -2,6 +2,13 @@ package tc.oc.pgm.regions;
 
 import static tc.oc.pgm.api.map.MapProtos.REGION_PRIORITY_VERSION;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nullable;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -43,6 +50,7 @@ import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.match.MatchScope;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.player.ParticipantState;
+import tc.oc.pgm.api.region.Region;
 import tc.oc.pgm.events.ListenerScope;
 import tc.oc.pgm.events.ParticipantBlockTransformEvent;
 import tc.oc.pgm.filters.query.PlayerBlockQuery;
@@ -55,9 +63,30 @@ import tc.oc.util.bukkit.block.BlockVectors;
 @ListenerScope(MatchScope.LOADED)
 public class RegionMatchModule implements MatchModule, Listener {
 
+  /** Maximum number of bytes used by the block bitmaps of regions in one match. */
+  private static final long VOXEL_BUDGET_BYTES = 32L << 20;
+  /** Maximum number of regions waiting for their bitmap to be built. */
+  private static final int VOXEL_QUEUE_SIZE = 64;
+
   private final Match match;
   private final RFAContext rfaContext;
   private final boolean useRegionPriority;
+  private final AtomicLong voxelBudget = new AtomicLong(VOXEL_BUDGET_BYTES);
+  // Bitmaps are built one at a time, off the pool that loads maps, and skipped if too many wait
+  private final ExecutorService voxelizer =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(VOXEL_QUEUE_SIZE),
+          runnable -> {
+            final Thread thread = new Thread(runnable, "PGM Region Voxelizer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+          });
+  private final Map<Region, Region> blockRegions = new IdentityHashMap<>();
 
   public RegionMatchModule(Match match, RFAContext rfaContext) {
     this.match = match;
@@ -65,6 +94,25 @@ public class RegionMatchModule implements MatchModule, Listener {
     this.useRegionPriority = match.getMap().getProto().isNoOlderThan(REGION_PRIORITY_VERSION);
   }
 
+  /**
+   * Get a region that answers block queries in the same way as the given region, but from a bitmap,
+   * if the region is block-bounded and fits in the budget of this match.
+   */
+  public Region getBlockRegion(Region region) {
+    Region blockRegion = blockRegions.get(region);
+    if (blockRegion == null) {
+      blockRegion =
+          region.isBlockBounded() ? new VoxelizedRegion(region, voxelBudget, voxelizer) : region;
+      blockRegions.put(region, blockRegion);
+    }
+    return blockRegion;
+  }
+
+  @Override
+  public void unload() {
+    voxelizer.shutdownNow();
+  }
+
   protected void checkEnterLeave(
       Event event, MatchPlayer player, @Nullable Location from, Location to) {
     if (player == null || !player.canInteract()) return;
@@ -178,7 +226,7 @@ public class RegionMatchModule implements MatchModule, Listener {
       for (RegionFilterApplication rfa : this.rfaContext.getAll()) {
         switch (rfa.scope) {
           case BLOCK_BREAK:
-            if (event.isBreak() && rfa.region.contains(event.getOldState())) {
+            if (event.isBreak() && getBlockRegion(rfa.region).contains(event.getOldState())) {
               if (processQuery(rfa, breakQuery)) {
                 break rfaLoop;
               }
@@ -186,7 +234,7 @@ public class RegionMatchModule implements MatchModule, Listener {
             break;
 
           case BLOCK_PLACE:
-            if (event.isPlace() && rfa.region.contains(event.getNewState())) {
+            if (event.isPlace() && getBlockRegion(rfa.region).contains(event.getNewState())) {
               if (processQuery(rfa, placeQuery)) {
                 break rfaLoop;
               }
@@ -195,7 +243,7 @@ public class RegionMatchModule implements MatchModule, Listener {
 
           case BLOCK_PLACE_AGAINST:
             if (againstQuery != null) {
-              if (rfa.region.contains(againstQuery.getBlock())) {
+              if (getBlockRegion(rfa.region).contains(againstQuery.getBlock())) {
                 if (processQuery(rfa, againstQuery)) {
                   break rfaLoop;
                 }
@@ -227,7 +275,7 @@ public class RegionMatchModule implements MatchModule, Listener {
     tc.oc.pgm.filters.query.BlockQuery query =
         new tc.oc.pgm.filters.query.BlockQuery(event, event.getBlock().getState());
     for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PHYSICS)) {
-      if (rfa.region.contains(event.getBlock()) && processQuery(rfa, query)) break;
+      if (getBlockRegion(rfa.region).contains(event.getBlock()) && processQuery(rfa, query)) break;
     }
   }
 
@@ -239,7 +287,7 @@ public class RegionMatchModule implements MatchModule, Listener {
     PlayerBlockQuery query = new PlayerBlockQuery(event, player, event.getBlock().getState());
 
     for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK)) {
-      if (rfa.earlyWarning && rfa.region.contains(event.getBlock())) {
+      if (rfa.earlyWarning && getBlockRegion(rfa.region).contains(event.getBlock())) {
         if (processQuery(rfa, query)) {
           if (event.isCancelled() && rfa.message != null) {
             player.sendWarning(rfa.message, true);
@@ -311,7 +359,7 @@ public class RegionMatchModule implements MatchModule, Listener {
     PlayerBlockQuery query = new PlayerBlockQuery(event, player, blockState);
 
     for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.USE)) {
-      if (rfa.region.contains(blockState)) {
+      if (getBlockRegion(rfa.region).contains(blockState)) {
         if (processQuery(rfa, query)) {
           if (query.getEvent() instanceof PlayerInteractEvent
               && ((PlayerInteractEvent) query.getEvent()).isCancelled()) {
@@ -336,7 +384,7 @@ public class RegionMatchModule implements MatchModule, Listener {
     Query query = makeBlockQuery(event, placer, blockState);
 
     for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_PLACE)) {
-      if (rfa.region.contains(blockState)) {
+      if (getBlockRegion(rfa.region).contains(blockState)) {
         if (processQuery(rfa, query)) {
           sendCancelMessage(rfa, query);
           if (this.useRegionPriority) break;
@@ -352,7 +400,7 @@ public class RegionMatchModule implements MatchModule, Listener {
     Query query = makeBlockQuery(event, breaker, blockState);
 
     for (RegionFilterApplication rfa : this.rfaContext.get(RFAScope.BLOCK_BREAK)) {
-      if (rfa.region.contains(blockState)) {
+      if (getBlockRegion(rfa.region).contains(blockState)) {
         if (processQuery(rfa, query)) {
           sendCancelMessage(rfa, query);
           if (this.useRegionPriority) break;
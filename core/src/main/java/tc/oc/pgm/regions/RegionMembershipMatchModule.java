@@ -0,0 +1,187 @@
+package tc.oc.pgm.regions;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import tc.oc.pgm.api.event.CoarsePlayerMoveEvent;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.api.region.Region;
+import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.spawns.events.ParticipantDespawnEvent;
+import tc.oc.pgm.spawns.events.ParticipantSpawnEvent;
+import tc.oc.pgm.util.MatchPlayers;
+import tc.oc.pgm.util.PlayerSlotSet;
+
+/**
+ * Tracks which regions each participating player is inside, so modules that care about the same
+ * movement do not each test their own regions on every move.
+ *
+ * <p>A region is tested once per coarse move, teleport or spawn, no matter how many modules track
+ * it. Only players that are alive are ever inside a region, and players that cannot interact, such
+ * as frozen players, keep the regions they were in until they can.
+ *
+ * <p>Subscribers are only notified when a player walks into or out of a region. Spawning,
+ * despawning, teleporting and the start of tracking change the players inside a region silently,
+ * since the player did not cross its edge.
+ */
+@ListenerScope(MatchScope.RUNNING)
+public class RegionMembershipMatchModule implements MatchModule, Listener {
+
+  /** Notified when a player walks into or out of a tracked region. */
+  public interface Subscriber {
+    void onEnter(Membership membership, MatchPlayer player);
+
+    void onLeave(Membership membership, MatchPlayer player);
+  }
+
+  /** A region, and the players currently inside it. */
+  public static class Membership {
+    private final Region region;
+    private final boolean blocks;
+    private final Set<MatchPlayer> players = new PlayerSlotSet();
+    private final Set<MatchPlayer> playersView = Collections.unmodifiableSet(players);
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    private Membership(Region region, boolean blocks) {
+      this.region = region;
+      this.blocks = blocks;
+    }
+
+    public Region getRegion() {
+      return region;
+    }
+
+    /** An unmodifiable, live view of the players inside the region. */
+    public Set<MatchPlayer> getPlayers() {
+      return playersView;
+    }
+
+    public boolean contains(MatchPlayer player) {
+      return players.contains(player);
+    }
+
+    public void subscribe(Subscriber subscriber) {
+      subscribers.add(checkNotNull(subscriber));
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+      subscribers.remove(subscriber);
+    }
+
+    private boolean test(Location location) {
+      if (blocks) {
+        return region.contains(
+            location.getBlockX() + 0.5, location.getBlockY() + 0.5, location.getBlockZ() + 0.5);
+      }
+      return region.contains(location.getX(), location.getY(), location.getZ());
+    }
+
+    private void update(MatchPlayer player, boolean inside, boolean notify) {
+      if ((inside ? players.add(player) : players.remove(player)) && notify) {
+        for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+          if (inside) {
+            subscriber.onEnter(this, player);
+          } else {
+            subscriber.onLeave(this, player);
+          }
+        }
+      }
+    }
+  }
+
+  private final Match match;
+  private final Map<Region, Membership> pointMemberships = new IdentityHashMap<>();
+  private final Map<Region, Membership> blockMemberships = new IdentityHashMap<>();
+  private final List<Membership> memberships = new ArrayList<>();
+
+  public RegionMembershipMatchModule(Match match) {
+    this.match = match;
+  }
+
+  /**
+   * Start tracking the players inside a region, or get the existing membership of the region.
+   *
+   * @param region The region to track.
+   * @param blocks Whether to test the center of the block each player is in, rather than their
+   *     exact location.
+   * @return The membership of the region, shared with anyone else tracking it.
+   */
+  public Membership track(Region region, boolean blocks) {
+    final Map<Region, Membership> byRegion = blocks ? blockMemberships : pointMemberships;
+    Membership membership = byRegion.get(region);
+    if (membership == null) {
+      membership = new Membership(region, blocks);
+      byRegion.put(region, membership);
+      memberships.add(membership);
+
+      for (MatchPlayer player : match.getParticipants()) {
+        if (isPresent(player)) {
+          membership.update(player, membership.test(player.getBukkit().getLocation()), false);
+        }
+      }
+    }
+    return membership;
+  }
+
+  private static boolean isPresent(MatchPlayer player) {
+    return player.canInteract() && !player.getBukkit().isDead();
+  }
+
+  private void update(@Nullable MatchPlayer player, Location location, boolean notify) {
+    // Players that cannot interact are left where they were
+    if (!MatchPlayers.canInteract(player)) return;
+
+    final boolean alive = !player.getBukkit().isDead();
+    for (Membership membership : memberships) {
+      membership.update(player, alive && membership.test(location), notify);
+    }
+  }
+
+  private void remove(MatchPlayer player) {
+    for (Membership membership : memberships) {
+      membership.update(player, false, false);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerMove(final CoarsePlayerMoveEvent event) {
+    update(match.getPlayer(event.getPlayer()), event.getTo(), true);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerTeleport(final PlayerTeleportEvent event) {
+    // In-game teleports, such as ender pearls, were already handled as a coarse move
+    update(match.getPlayer(event.getPlayer()), event.getTo(), false);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerSpawn(final ParticipantSpawnEvent event) {
+    update(event.getPlayer(), event.getPlayer().getBukkit().getLocation(), false);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerDespawn(final ParticipantDespawnEvent event) {
+    remove(event.getPlayer());
+  }
+
+  @Override
+  public void unload() {
+    memberships.clear();
+    pointMemberships.clear();
+    blockMemberships.clear();
+  }
+}
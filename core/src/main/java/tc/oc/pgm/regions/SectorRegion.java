@@ -1,7 +1,5 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
-
 public class SectorRegion extends AbstractRegion {
   protected final double x, z;
   protected final double startAngle;
@@ -15,9 +13,9 @@ public class SectorRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    double dx = point.getX() - this.x;
-    double dz = point.getZ() - this.z;
+  public boolean contains(double x, double y, double z) {
+    double dx = x - this.x;
+    double dz = z - this.z;
     if (dx == 0 && dz == 0) {
       return true;
     }
@@ -26,8 +26,11 @@ public class SphereRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return this.origin.distanceSquared(point) <= this.radiusSq;
+  public boolean contains(double x, double y, double z) {
+    final double dx = x - this.origin.getX();
+    final double dy = y - this.origin.getY();
+    final double dz = z - this.origin.getZ();
+    return dx * dx + dy * dy + dz * dz <= this.radiusSq;
   }
 
   @Override
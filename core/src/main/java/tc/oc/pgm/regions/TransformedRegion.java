@@ -46,8 +46,9 @@ public abstract class TransformedRegion extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
-    return this.region.contains(this.untransform(point));
+  public boolean contains(double x, double y, double z) {
+    final Vector point = this.untransform(new Vector(x, y, z));
+    return this.region.contains(point.getX(), point.getY(), point.getZ());
   }
 
   @Override
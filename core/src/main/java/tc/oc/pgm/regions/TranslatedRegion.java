@@ -26,6 +26,12 @@ public class TranslatedRegion extends TransformedRegion {
     return point.clone().subtract(this.offset);
   }
 
+  @Override
+  public boolean contains(double x, double y, double z) {
+    return this.region.contains(
+        x - this.offset.getX(), y - this.offset.getY(), z - this.offset.getZ());
+  }
+
   @Override
   protected Bounds getTransformedBounds() {
     return this.region.getBounds().translate(this.offset);
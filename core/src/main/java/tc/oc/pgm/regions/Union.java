@@ -1,11 +1,15 @@
 package tc.oc.pgm.regions;
 
-import org.bukkit.util.Vector;
+import javax.annotation.Nullable;
 import tc.oc.pgm.api.region.Region;
 
 public class Union extends AbstractRegion {
   private final Region[] regions;
 
+  // Bounds of every region, checked before the regions themselves, or null if unbounded
+  private @Nullable Bounds containsBounds;
+  private boolean containsBoundsResolved;
+
   public Union(Region... regions) {
     this.regions = regions;
   }
@@ -21,15 +25,38 @@ public class Union extends AbstractRegion {
   }
 
   @Override
-  public boolean contains(Vector point) {
+  public boolean contains(double x, double y, double z) {
+    if (!this.containsBoundsResolved) {
+      this.containsBounds = this.resolveContainsBounds();
+      this.containsBoundsResolved = true;
+    }
+
+    if (this.containsBounds != null && !this.containsBounds.contains(x, y, z)) {
+      return false;
+    }
+
     for (Region region : this.regions) {
-      if (region.contains(point)) {
+      if (region.contains(x, y, z)) {
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Regions can be references that are not resolved until the map has loaded, so this is computed
+   * on the first call to {@link #contains(double, double, double)}.
+   */
+  private @Nullable Bounds resolveContainsBounds() {
+    final Bounds bounds;
+    try {
+      bounds = this.getBounds();
+    } catch (UnsupportedOperationException e) {
+      return null; // A region, such as a negative, has no bounds
+    }
+    return bounds.isFinite() ? bounds : null;
+  }
+
   @Override
   public boolean isBlockBounded() {
     for (Region region : this.regions) {
@@ -0,0 +1,256 @@
+package tc.oc.pgm.regions;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.util.BlockVector;
+import org.bukkit.util.Vector;
+import tc.oc.pgm.api.region.Region;
+
+/**
+ * A view of a block-bounded {@link Region} that answers block queries from a bitmap of the blocks
+ * it contains, one per chunk section. The bitmap is built in the background the first time a block
+ * is queried, and until then, or if it would not fit in the memory budget, queries are answered by
+ * the region itself. Blocks outside the bounds of the region are also answered by the region, so
+ * the bitmap never depends on those bounds being exact.
+ *
+ * <p>Sections that are completely empty are not stored, and sections that are completely full share
+ * a single array.
+ */
+public class VoxelizedRegion extends AbstractRegion {
+
+  private static final int SECTION_LONGS = 16 * 16 * 16 / Long.SIZE;
+  private static final long SECTION_BYTES = SECTION_LONGS * Long.BYTES + 32; // With map overhead
+  private static final long[] FULL_SECTION = new long[SECTION_LONGS];
+
+  static {
+    for (int i = 0; i < SECTION_LONGS; i++) {
+      FULL_SECTION[i] = -1L;
+    }
+  }
+
+  /** The bitmap of the blocks in the region, and the range of blocks it covers. */
+  private static class Bitmap {
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+    private final TLongObjectMap<long[]> sections;
+
+    private Bitmap(
+        int minX,
+        int minY,
+        int minZ,
+        int maxX,
+        int maxY,
+        int maxZ,
+        TLongObjectMap<long[]> sections) {
+      this.minX = minX;
+      this.minY = minY;
+      this.minZ = minZ;
+      this.maxX = maxX;
+      this.maxY = maxY;
+      this.maxZ = maxZ;
+      this.sections = sections;
+    }
+
+    private boolean covers(int x, int y, int z) {
+      return minX <= x && x <= maxX && minY <= y && y <= maxY && minZ <= z && z <= maxZ;
+    }
+  }
+
+  private final Region region;
+  private final AtomicLong budget;
+  private final Executor executor;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile @Nullable Bitmap bitmap;
+
+  /**
+   * @param region A block-bounded region.
+   * @param budget Number of bytes that can still be used by bitmaps, shared with other regions.
+   * @param executor Where to build the bitmap, which may reject it if it is busy.
+   */
+  public VoxelizedRegion(Region region, AtomicLong budget, Executor executor) {
+    checkArgument(region.isBlockBounded(), "region must be block bounded");
+    this.region = region;
+    this.budget = budget;
+    this.executor = executor;
+  }
+
+  public Region getRegion() {
+    return region;
+  }
+
+  /** Whether the bitmap has been built, and block queries no longer evaluate the region. */
+  public boolean isVoxelized() {
+    return bitmap != null;
+  }
+
+  private static long sectionKey(int sx, int sy, int sz) {
+    return ((long) sx & 0x3FFFFFF) << 38 | ((long) sz & 0x3FFFFFF) << 12 | (sy & 0xFFF);
+  }
+
+  private static int bitIndex(int x, int y, int z) {
+    return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+  }
+
+  private boolean containsBlock(int x, int y, int z) {
+    final Bitmap bitmap = this.bitmap;
+    if (bitmap == null || !bitmap.covers(x, y, z)) {
+      if (bitmap == null && started.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::build);
+        } catch (RejectedExecutionException e) {
+          started.set(false); // Busy, so try again on a later query
+        }
+      }
+      return region.contains(x + 0.5, y + 0.5, z + 0.5);
+    }
+
+    final long[] section = bitmap.sections.get(sectionKey(x >> 4, y >> 4, z >> 4));
+    if (section == null) return false;
+
+    final int bit = bitIndex(x, y, z);
+    return (section[bit >>> 6] & (1L << bit)) != 0;
+  }
+
+  private void build() {
+    final Bounds bounds = region.getBounds();
+    final Vector min = bounds.getMin();
+    final Vector max = bounds.getMax();
+
+    // Blocks whose center is inside the bounds, with y limited to the height of the world
+    final int minX = (int) Math.ceil(min.getX() - 0.5);
+    final int minY = Math.max(0, (int) Math.ceil(min.getY() - 0.5));
+    final int minZ = (int) Math.ceil(min.getZ() - 0.5);
+    final int maxX = (int) Math.floor(max.getX() - 0.5);
+    final int maxY = Math.min(255, (int) Math.floor(max.getY() - 0.5));
+    final int maxZ = (int) Math.floor(max.getZ() - 0.5);
+    if (minX > maxX || minY > maxY || minZ > maxZ) {
+      this.bitmap = new Bitmap(minX, minY, minZ, maxX, maxY, maxZ, new TLongObjectHashMap<>(0));
+      return;
+    }
+
+    final long reserved =
+        SECTION_BYTES
+            * ((maxX >> 4) - (minX >> 4) + 1)
+            * ((maxY >> 4) - (minY >> 4) + 1)
+            * ((maxZ >> 4) - (minZ >> 4) + 1);
+    if (budget.addAndGet(-reserved) < 0) {
+      budget.addAndGet(reserved);
+      return; // Too big, so keep evaluating the region
+    }
+
+    final TLongObjectMap<long[]> sections = new TLongObjectHashMap<>();
+    for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+      for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+        for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+          if (Thread.currentThread().isInterrupted()) {
+            budget.addAndGet(reserved); // The match unloaded, so give up
+            return;
+          }
+
+          final long[] section = buildSection(sx, sy, sz, minX, minY, minZ, maxX, maxY, maxZ);
+          if (section != null) {
+            sections.put(sectionKey(sx, sy, sz), section);
+          }
+        }
+      }
+    }
+
+    long used = 0;
+    for (long[] section : sections.valueCollection()) {
+      if (section != FULL_SECTION) used += SECTION_BYTES;
+    }
+    budget.addAndGet(reserved - used);
+
+    this.bitmap = new Bitmap(minX, minY, minZ, maxX, maxY, maxZ, sections);
+  }
+
+  private @Nullable long[] buildSection(
+      int sx, int sy, int sz, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+    final long[] section = new long[SECTION_LONGS];
+    int count = 0;
+
+    for (int y = Math.max(minY, sy << 4); y <= Math.min(maxY, (sy << 4) + 15); y++) {
+      for (int z = Math.max(minZ, sz << 4); z <= Math.min(maxZ, (sz << 4) + 15); z++) {
+        for (int x = Math.max(minX, sx << 4); x <= Math.min(maxX, (sx << 4) + 15); x++) {
+          if (region.contains(x + 0.5, y + 0.5, z + 0.5)) {
+            final int bit = bitIndex(x, y, z);
+            section[bit >>> 6] |= 1L << bit;
+            count++;
+          }
+        }
+      }
+    }
+
+    return count == 0 ? null : count == 16 * 16 * 16 ? FULL_SECTION : section;
+  }
+
+  @Override
+  public boolean contains(double x, double y, double z) {
+    return region.contains(x, y, z);
+  }
+
+  @Override
+  public boolean contains(BlockVector blockPos) {
+    return containsBlock(blockPos.getBlockX(), blockPos.getBlockY(), blockPos.getBlockZ());
+  }
+
+  @Override
+  public boolean contains(Block block) {
+    return containsBlock(block.getX(), block.getY(), block.getZ());
+  }
+
+  @Override
+  public boolean contains(BlockState block) {
+    return containsBlock(block.getX(), block.getY(), block.getZ());
+  }
+
+  @Override
+  public boolean canGetRandom() {
+    return region.canGetRandom();
+  }
+
+  @Override
+  public Vector getRandom(Random random) {
+    return region.getRandom(random);
+  }
+
+  @Override
+  public boolean isBlockBounded() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return region.isEmpty();
+  }
+
+  @Override
+  public Bounds getBounds() {
+    return region.getBounds();
+  }
+
+  @Override
+  public Iterator<BlockVector> getBlockVectorIterator() {
+    return region.getBlockVectorIterator();
+  }
+
+  @Override
+  public String toString() {
+    return "Voxelized{region=" + region + "}";
+  }
+}
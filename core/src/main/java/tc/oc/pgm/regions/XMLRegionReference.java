@@ -36,6 +36,11 @@ public class XMLRegionReference extends XMLFeatureReference<RegionDefinition> im
     return get().contains(point);
   }
 
+  @Override
+  public boolean contains(double x, double y, double z) {
+    return get().contains(x, y, z);
+  }
+
   @Override
   public boolean contains(Location point) {
     return get().contains(point);
@@ -21,8 +21,10 @@ import tc.oc.pgm.api.filter.Filter;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.Tickable;
 import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.api.region.Region;
 import tc.oc.pgm.api.time.Tick;
 import tc.oc.pgm.filters.query.BlockQuery;
+import tc.oc.pgm.regions.RegionMatchModule;
 import tc.oc.pgm.snapshot.SnapshotMatchModule;
 import tc.oc.util.ClassLogger;
 import tc.oc.util.bukkit.block.BlockFaces;
@@ -53,6 +55,7 @@ public class Renewable implements Listener, Tickable {
   private long lastTick;
 
   private SnapshotMatchModule snapshotMatchModule;
+  private Region blockRegion;
 
   // Cached queries of the renewable/shuffleable filters, invalidated every tick.
   // These are queries of the original blocks, not the current blocks.
@@ -80,8 +83,16 @@ public class Renewable implements Listener, Tickable {
     return snapshotMatchModule;
   }
 
+  Region blockRegion() {
+    if (blockRegion == null) {
+      final RegionMatchModule regions = match.getModule(RegionMatchModule.class);
+      blockRegion = regions == null ? definition.region : regions.getBlockRegion(definition.region);
+    }
+    return blockRegion;
+  }
+
   boolean isOriginalRenewable(BlockVector pos) {
-    if (!definition.region.contains(pos)) return false;
+    if (!blockRegion().contains(pos)) return false;
     Filter.QueryResponse response = renewableCache.get(pos);
     if (response == null) {
       response = definition.renewableBlocks.query(new BlockQuery(snapshot().getOriginalBlock(pos)));
@@ -90,7 +101,7 @@ public class Renewable implements Listener, Tickable {
   }
 
   boolean isOriginalShuffleable(BlockVector pos) {
-    if (!definition.region.contains(pos)) return false;
+    if (!blockRegion().contains(pos)) return false;
     Filter.QueryResponse response = shuffleableCache.get(pos);
     if (response == null) {
       response =
@@ -9,9 +9,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
+import java.util.Random;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import net.md_5.bungee.api.ChatColor;
@@ -35,6 +34,7 @@ import tc.oc.util.bukkit.component.types.PersonalizedTranslatable;
 import tc.oc.util.bukkit.named.MapNameStyle;
 import tc.oc.util.bukkit.nms.NMSHacks;
 import tc.oc.util.bukkit.translations.AllTranslations;
+import tc.oc.util.collection.WeightedSampler;
 
 /** Represents a polling process, with a set of options. */
 public class MapPoll {
@@ -44,69 +44,28 @@ public class MapPoll {
   private static final int TITLE_LENGTH_CUTOFF = 15;
 
   private final WeakReference<Match> match;
-  private final Map<MapInfo, Double> mapScores;
   private final int voteSize;
 
   private final Map<MapInfo, Set<UUID>> votes = new HashMap<>();
 
-  MapPoll(Match match, Map<MapInfo, Double> mapScores, int voteSize) {
+  MapPoll(Match match, WeightedSampler<MapInfo> maps, int voteSize, Random random) {
     this.match = new WeakReference<>(match);
-    this.mapScores = mapScores;
     this.voteSize = voteSize;
 
-    selectMaps();
+    selectMaps(maps, random);
   }
 
-  private void selectMaps() {
-    // Sorting beforehand, saves future key remaps, as bigger values are placed at the end
-    List<MapInfo> sortedDist =
-        mapScores.entrySet().stream()
-            .sorted(Comparator.comparingDouble(Map.Entry::getValue))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
-
-    NavigableMap<Double, MapInfo> cumulativeScores = new TreeMap<>();
-    double maxWeight = cummulativeMap(0, sortedDist, cumulativeScores);
-
-    for (int i = 0; i < voteSize; i++) {
-      NavigableMap<Double, MapInfo> subMap =
-          cumulativeScores.tailMap(Math.random() * maxWeight, true);
-      Map.Entry<Double, MapInfo> selected = subMap.pollFirstEntry();
-
-      if (selected == null) break; // No more maps to poll
-      votes.put(selected.getValue(), new HashSet<>()); // Add map to votes
-      if (votes.size() >= voteSize) break; // Skip replace logic after all maps have been selected
-
-      // Remove map from pool, updating cumulative scores
-      double selectedWeight = getWeight(selected.getValue());
-      maxWeight -= selectedWeight;
-
-      NavigableMap<Double, MapInfo> temp = new TreeMap<>();
-      cummulativeMap(selected.getKey() - selectedWeight, subMap.values(), temp);
-
-      subMap.clear();
-      cumulativeScores.putAll(temp);
+  private void selectMaps(WeightedSampler<MapInfo> maps, Random random) {
+    for (MapInfo map : maps.sample(random, voteSize)) {
+      votes.put(map, new HashSet<>());
     }
   }
 
-  private double getWeight(MapInfo map) {
-    return getWeight(mapScores.get(map));
-  }
-
   public static double getWeight(Double score) {
     if (score == null || score <= 0) return 0;
     return Math.max(Math.pow(score, 2), Double.MIN_VALUE);
   }
 
-  private double cummulativeMap(
-      double currWeight, Collection<MapInfo> maps, Map<Double, MapInfo> result) {
-    for (MapInfo map : maps) {
-      double score = getWeight(map);
-      if (score > 0) result.put(currWeight += score, map);
-    }
-    return currWeight;
-  }
-
   public void announceWinner(MatchPlayer viewer, MapInfo winner) {
     for (MapInfo pgmMap : votes.keySet())
       viewer.sendMessage(getMapChatComponent(viewer, pgmMap, pgmMap.equals(winner)));
@@ -233,13 +192,19 @@ public class MapPoll {
       match.getPlayers().forEach(player -> announceWinner(player, picked));
     }
 
-    updateScores();
     return picked;
   }
 
-  private void updateScores() {
-    double voters = votes.values().stream().flatMap(Collection::stream).distinct().count();
-    if (voters == 0) return;
-    votes.forEach((m, v) -> mapScores.put(m, Math.max(v.size() / voters, Double.MIN_VALUE)));
+  /**
+   * Get the new score of each map in the vote, based on its share of the voters.
+   *
+   * @return A map of scores, or empty if nobody voted.
+   */
+  Map<MapInfo, Double> getScores() {
+    final double voters = votes.values().stream().flatMap(Collection::stream).distinct().count();
+    final Map<MapInfo, Double> scores = new HashMap<>();
+    if (voters == 0) return scores;
+    votes.forEach((m, v) -> scores.put(m, Math.max(v.size() / voters, Double.MIN_VALUE)));
+    return scores;
   }
 }
@@ -1,12 +1,20 @@
 package tc.oc.pgm.rotation;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import org.bukkit.configuration.ConfigurationSection;
 import tc.oc.pgm.api.map.MapInfo;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchScope;
 import tc.oc.pgm.restart.RestartManager;
+import tc.oc.util.collection.WeightedSampler;
 
 public class VotingPool extends MapPool {
 
@@ -19,16 +27,37 @@ public class VotingPool extends MapPool {
   private final int VOTE_SIZE;
   private final double ADJUST_FACTOR;
   private final Map<MapInfo, Double> mapScores = new HashMap<>();
+  // Weights of each map to be picked for a poll, kept in sync with mapScores
+  private final WeightedSampler<MapInfo> mapWeights;
+  // Maps whose score has not yet settled back to DEFAULT_WEIGHT
+  private final Set<MapInfo> unsettledMaps = new HashSet<>();
+  private final Random random;
 
   private MapPoll currentPoll;
 
   public VotingPool(MapPoolManager manager, ConfigurationSection section, String name) {
+    this(
+        manager,
+        section,
+        name,
+        section.contains("seed") ? new Random(section.getLong("seed")) : new Random());
+  }
+
+  /**
+   * Create a voting pool that picks the maps of each poll with the given source of randomness, so
+   * that a seeded {@link Random} always picks the same maps for the same scores.
+   */
+  public VotingPool(
+      MapPoolManager manager, ConfigurationSection section, String name, Random random) {
     super(manager, section, name);
+    this.random = checkNotNull(random);
     VOTE_SIZE = Math.min(MAX_VOTE_OPTIONS, maps.size() - 1);
     ADJUST_FACTOR = 1d / (maps.size() * MAX_VOTE_OPTIONS);
 
+    // In the order of the config, so a seeded pool samples the same way on every server
+    mapWeights = new WeightedSampler<>(new LinkedHashSet<>(maps));
     for (MapInfo map : maps) {
-      mapScores.put(map, DEFAULT_WEIGHT);
+      setMapScore(map, DEFAULT_WEIGHT);
     }
   }
 
@@ -40,16 +69,37 @@ public class VotingPool extends MapPool {
     return mapScores.get(map);
   }
 
+  private void setMapScore(MapInfo map, double score) {
+    mapScores.put(map, score);
+    mapWeights.setWeight(map, MapPoll.getWeight(score));
+    if (score == DEFAULT_WEIGHT) {
+      unsettledMaps.remove(map);
+    } else {
+      unsettledMaps.add(map);
+    }
+  }
+
   /** Ticks scores for all maps, making them go slowly towards DEFAULT_WEIGHT. */
   private void tickScores(MapInfo currentMap) {
     // If the current map isn't from this pool, ignore ticking
     if (!mapScores.containsKey(currentMap)) return;
-    mapScores.replaceAll(
-        (mapScores, value) ->
-            value > DEFAULT_WEIGHT
-                ? Math.max(value - ADJUST_FACTOR, DEFAULT_WEIGHT)
-                : Math.min(value + ADJUST_FACTOR, DEFAULT_WEIGHT));
-    mapScores.put(currentMap, 0d);
+
+    // Maps at DEFAULT_WEIGHT would not change, so only the unsettled ones are ticked
+    final Iterator<MapInfo> iterator = unsettledMaps.iterator();
+    while (iterator.hasNext()) {
+      final MapInfo map = iterator.next();
+      final double value = mapScores.get(map);
+      final double score =
+          value > DEFAULT_WEIGHT
+              ? Math.max(value - ADJUST_FACTOR, DEFAULT_WEIGHT)
+              : Math.min(value + ADJUST_FACTOR, DEFAULT_WEIGHT);
+
+      mapScores.put(map, score);
+      mapWeights.setWeight(map, MapPoll.getWeight(score));
+      if (score == DEFAULT_WEIGHT) iterator.remove();
+    }
+
+    setMapScore(currentMap, 0d);
   }
 
   @Override
@@ -57,6 +107,7 @@ public class VotingPool extends MapPool {
     if (currentPoll == null) return getRandom();
 
     MapInfo map = currentPoll.finishVote();
+    currentPoll.getScores().forEach(this::setMapScore);
     currentPoll = null;
     return map != null ? map : getRandom();
   }
@@ -88,7 +139,7 @@ public class VotingPool extends MapPool {
               if (manager.getOverriderMap() != null) return;
               // If there is a restart queued, don't start a vote
               if (RestartManager.isQueued()) return;
-              currentPoll = new MapPoll(match, mapScores, VOTE_SIZE);
+              currentPoll = new MapPoll(match, mapWeights, VOTE_SIZE, random);
               match.getPlayers().forEach(currentPoll::sendBook);
             });
   }
@@ -15,9 +15,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.util.Vector;
 import org.joda.time.Instant;
-import tc.oc.pgm.api.event.CoarsePlayerMoveEvent;
 import tc.oc.pgm.api.event.PlayerItemTransferEvent;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
@@ -28,6 +26,7 @@ import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.player.ParticipantState;
 import tc.oc.pgm.api.player.event.MatchPlayerDeathEvent;
 import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.regions.RegionMembershipMatchModule;
 import tc.oc.util.bukkit.chat.Sound;
 import tc.oc.util.bukkit.component.types.PersonalizedTranslatable;
 import tc.oc.util.bukkit.material.matcher.SingleMaterialMatcher;
@@ -53,6 +52,14 @@ public class ScoreMatchModule implements MatchModule, Listener {
     match.addVictoryCondition(new ScoreVictoryCondition());
   }
 
+  @Override
+  public void enable() {
+    final RegionMembershipMatchModule regions = match.needModule(RegionMembershipMatchModule.class);
+    for (ScoreBox box : this.scoreBoxes) {
+      regions.track(box.getRegion(), true).subscribe(new BoxSubscriber(box));
+    }
+  }
+
   public boolean hasScoreLimit() {
     return this.config.scoreLimit > 0;
   }
@@ -137,32 +144,34 @@ public class ScoreMatchModule implements MatchModule, Listener {
     return points;
   }
 
-  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-  public void playerEnterBox(CoarsePlayerMoveEvent event) {
-    MatchPlayer player = this.match.getPlayer(event.getPlayer());
-    if (player == null || !player.canInteract() || player.getBukkit().isDead()) return;
+  /** Scores for players that walk into a box, by the center of the block they are in. */
+  private class BoxSubscriber implements RegionMembershipMatchModule.Subscriber {
+    private final ScoreBox box;
 
-    ParticipantState playerState = player.getParticipantState();
-    Vector from = event.getBlockFrom().toVector();
-    Vector to = event.getBlockTo().toVector();
+    private BoxSubscriber(ScoreBox box) {
+      this.box = box;
+    }
 
-    for (ScoreBox box : this.scoreBoxes) {
-      if (box.getRegion().enters(from, to) && box.canScore(playerState)) {
-        if (box.isCoolingDown(playerState)) {
-          match
-              .getLogger()
-              .warning(
-                  playerState.getId()
-                      + " tried to score multiple times in one second (from="
-                      + from
-                      + " to="
-                      + to
-                      + ")");
-        } else {
-          this.playerScore(box, player, box.getScore() + redeemItems(box, player.getInventory()));
-        }
+    @Override
+    public void onEnter(RegionMembershipMatchModule.Membership membership, MatchPlayer player) {
+      ParticipantState playerState = player.getParticipantState();
+      if (playerState == null || !box.canScore(playerState)) return;
+
+      if (box.isCoolingDown(playerState)) {
+        match
+            .getLogger()
+            .warning(
+                playerState.getId()
+                    + " tried to score multiple times in one second (at="
+                    + player.getBukkit().getLocation().toVector()
+                    + ")");
+      } else {
+        playerScore(box, player, box.getScore() + redeemItems(box, player.getInventory()));
       }
     }
+
+    @Override
+    public void onLeave(RegionMembershipMatchModule.Membership membership, MatchPlayer player) {}
   }
 
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -227,6 +236,6 @@ public class ScoreMatchModule implements MatchModule, Listener {
 
     this.scores.put(competitor, event.getNewScore());
 
-    this.match.calculateVictory();
+    this.match.calculateVictory(competitor);
   }
 }
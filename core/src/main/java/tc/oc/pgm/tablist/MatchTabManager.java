@@ -2,7 +2,9 @@ package tc.oc.pgm.tablist;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nullable;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -18,10 +20,12 @@ import tc.oc.pgm.api.map.Contributor;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.event.MatchResizeEvent;
 import tc.oc.pgm.api.match.event.MatchUnloadEvent;
+import tc.oc.pgm.api.party.Party;
 import tc.oc.pgm.api.party.event.PartyRenameEvent;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.api.player.event.MatchPlayerDeathEvent;
 import tc.oc.pgm.events.PlayerJoinMatchEvent;
+import tc.oc.pgm.events.PlayerPartyChangeBatchEvent;
 import tc.oc.pgm.events.PlayerPartyChangeEvent;
 import tc.oc.pgm.ffa.Tribute;
 import tc.oc.pgm.spawns.events.ParticipantSpawnEvent;
@@ -169,16 +173,34 @@ public class MatchTabManager extends TabManager implements Listener {
   public void onPlayerTeamChange(PlayerPartyChangeEvent event) {
     invalidate(event.getPlayer());
 
-    if (event.getOldParty() instanceof Team) {
-      this.getTeamEntry((Team) event.getOldParty()).invalidate();
+    // Party entries are invalidated once for the whole batch
+    if (!event.isBatched()) {
+      invalidateParties(event.getMatch(), event.getOldParty(), event.getNewParty());
     }
+  }
 
-    if (event.getNewParty() instanceof Team) {
-      this.getTeamEntry((Team) event.getNewParty()).invalidate();
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerTeamChangeBatch(PlayerPartyChangeBatchEvent event) {
+    final Set<Party> parties = new HashSet<>();
+    for (MatchPlayer player : event.getPlayers()) {
+      parties.add(event.getOldParty(player));
+      parties.add(player.getParty());
+    }
+    invalidateParties(event.getMatch(), parties.toArray(new Party[0]));
+  }
+
+  private void invalidateParties(Match match, Party... parties) {
+    boolean tributes = false;
+    for (Party party : parties) {
+      if (party instanceof Team) {
+        this.getTeamEntry((Team) party).invalidate();
+      } else if (party instanceof Tribute) {
+        tributes = true;
+      }
     }
 
-    if (event.getOldParty() instanceof Tribute || event.getNewParty() instanceof Tribute) {
-      this.getFreeForAllEntry(event.getMatch()).invalidate();
+    if (tributes) {
+      this.getFreeForAllEntry(match).invalidate();
     }
   }
 
@@ -27,6 +27,7 @@ import tc.oc.pgm.api.party.Party;
 import tc.oc.pgm.api.player.MatchPlayer;
 import tc.oc.pgm.events.ListenerScope;
 import tc.oc.pgm.events.PlayerJoinPartyEvent;
+import tc.oc.pgm.events.PlayerPartyChangeBatchEvent;
 import tc.oc.pgm.events.PlayerPartyChangeEvent;
 import tc.oc.pgm.join.GenericJoinResult;
 import tc.oc.pgm.join.JoinHandler;
@@ -561,7 +562,10 @@ public class TeamMatchModule implements MatchModule, Listener, JoinHandler {
     if (!Config.Teams.autoBalance()) return;
 
     match.getLogger().info("Auto-balancing teams");
+    match.batchPartyChanges(this::bumpStackedPlayers);
+  }
 
+  private void bumpStackedPlayers() {
     for (; ; ) {
       Team team = this.getFullestTeam();
       if (team == null) break;
@@ -645,6 +649,11 @@ public class TeamMatchModule implements MatchModule, Listener, JoinHandler {
           .sendMessage(
               new PersonalizedTranslatable("team.join", event.getNewParty().getComponentName()));
     }
+    if (!event.isBatched()) updateReadiness();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyChangeBatch(PlayerPartyChangeBatchEvent event) {
     updateReadiness();
   }
 
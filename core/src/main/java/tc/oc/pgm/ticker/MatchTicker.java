@@ -0,0 +1,170 @@
+package tc.oc.pgm.ticker;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.logging.Level;
+import org.joda.time.Duration;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.Tickable;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.api.time.Tick;
+import tc.oc.util.TimeUtils;
+import tc.oc.util.bukkit.component.Component;
+
+/**
+ * Drives short-lived displays, such as countdowns and hotbar messages, from a single {@link
+ * Tickable}, instead of creating scheduler tasks for each player.
+ *
+ * <p>Every {@link Match} has one ticker from when it is created, so modules can schedule entries
+ * while they are still loading.
+ */
+public class MatchTicker implements Tickable {
+
+  /** Number of ticks between each re-send of a hotbar message, so it does not fade out. */
+  public static final int HOTBAR_INTERVAL_TICKS = 5;
+
+  private final Match match;
+  private final PriorityQueue<Entry> entries = new PriorityQueue<>();
+  private final Map<MatchPlayer, HotbarEntry> hotbars = new HashMap<>();
+  private long sequence;
+
+  public MatchTicker(Match match) {
+    this.match = match;
+  }
+
+  /** A task that was registered with the ticker. */
+  public class Entry implements Comparable<Entry> {
+    private final Runnable task;
+    private final long period;
+    private final long order;
+    private long nextTick;
+    private boolean cancelled;
+
+    private Entry(Runnable task, long nextTick, long period) {
+      this.task = task;
+      this.nextTick = nextTick;
+      this.period = period;
+      this.order = sequence++;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    public void cancel() {
+      if (!cancelled) {
+        cancelled = true;
+        entries.remove(this);
+      }
+    }
+
+    @Override
+    public int compareTo(Entry o) {
+      final int compare = Long.compare(nextTick, o.nextTick);
+      return compare != 0 ? compare : Long.compare(order, o.order);
+    }
+  }
+
+  private static class HotbarEntry {
+    private final Component message;
+    private final long endTick;
+
+    private HotbarEntry(Component message, long endTick) {
+      this.message = message;
+      this.endTick = endTick;
+    }
+  }
+
+  private long now() {
+    return match.getTick().tick;
+  }
+
+  private Entry schedule(Runnable task, long delay, long period) {
+    final Entry entry = new Entry(checkNotNull(task), now() + Math.max(1, delay), period);
+    entries.add(entry);
+    return entry;
+  }
+
+  /**
+   * Run a task once, after a delay.
+   *
+   * @param delay Number of ticks to wait, at least one.
+   * @param task The task to run.
+   * @return An entry which can be cancelled.
+   */
+  public Entry runTaskLater(long delay, Runnable task) {
+    return schedule(task, delay, 0);
+  }
+
+  /**
+   * Run a task repeatedly, until it is cancelled or the match unloads.
+   *
+   * @param delay Number of ticks to wait before the first run, at least one.
+   * @param period Number of ticks between each run.
+   * @param task The task to run.
+   * @return An entry which can be cancelled.
+   */
+  public Entry runTaskTimer(long delay, long period, Runnable task) {
+    checkArgument(period > 0, "period must be positive");
+    return schedule(task, delay, period);
+  }
+
+  /**
+   * Keep showing a hotbar message to a player, replacing any message already being shown.
+   *
+   * @param player The player to show the message to.
+   * @param message The message to show.
+   * @param duration How long to keep showing the message.
+   */
+  public void showHotbarMessage(MatchPlayer player, Component message, Duration duration) {
+    player.sendHotbarMessage(message);
+    hotbars.put(player, new HotbarEntry(message, now() + TimeUtils.toTicks(duration)));
+  }
+
+  @Override
+  public void tick(Match match, Tick tick) {
+    Entry entry;
+    while ((entry = entries.peek()) != null && entry.nextTick <= tick.tick) {
+      entries.poll();
+
+      try {
+        entry.task.run();
+      } catch (Throwable t) {
+        match.getLogger().log(Level.SEVERE, "Could not run ticker task " + entry.task, t);
+        entry.cancelled = true;
+      }
+
+      // The task may have cancelled itself while running
+      if (entry.period > 0 && !entry.cancelled) {
+        entry.nextTick = tick.tick + entry.period;
+        entries.add(entry);
+      }
+    }
+
+    if (tick.tick % HOTBAR_INTERVAL_TICKS == 0 && !hotbars.isEmpty()) {
+      final Iterator<Map.Entry<MatchPlayer, HotbarEntry>> iterator = hotbars.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<MatchPlayer, HotbarEntry> hotbar = iterator.next();
+        if (hotbar.getValue().endTick <= tick.tick || !hotbar.getKey().getBukkit().isOnline()) {
+          iterator.remove();
+        } else {
+          hotbar.getKey().sendHotbarMessage(hotbar.getValue().message);
+        }
+      }
+    }
+  }
+
+  /** Cancel every entry and stop showing every hotbar message. */
+  public void clear() {
+    for (Entry entry : entries) {
+      entry.cancelled = true;
+    }
+    entries.clear();
+    hotbars.clear();
+  }
+}
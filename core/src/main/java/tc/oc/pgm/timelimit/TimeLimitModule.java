@@ -17,6 +17,7 @@ import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
 import tc.oc.pgm.api.party.VictoryCondition;
 import tc.oc.pgm.result.VictoryConditions;
+import tc.oc.pgm.teams.TeamModule;
 import tc.oc.util.bukkit.component.PeriodFormats;
 import tc.oc.util.xml.InvalidXMLException;
 import tc.oc.util.xml.XMLUtils;
@@ -41,6 +42,11 @@ public class TimeLimitModule implements MapModule {
   }
 
   public static class Factory implements MapModuleFactory<TimeLimitModule> {
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(TeamModule.class);
+    }
+
     @Override
     public TimeLimitModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
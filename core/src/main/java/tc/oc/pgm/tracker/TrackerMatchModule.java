@@ -1,6 +1,8 @@
 package tc.oc.pgm.tracker;
 
+import java.util.EnumMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.bukkit.block.Block;
@@ -44,6 +46,8 @@ public class TrackerMatchModule implements MatchModule {
   private FireTracker fireTracker;
 
   private final Set<DamageResolver> damageResolvers = new LinkedHashSet<>();
+  private final Map<EntityDamageEvent.DamageCause, DamageResolver[]> damageResolversByType =
+      new EnumMap<>(EntityDamageEvent.DamageCause.class);
   private final Match match;
 
   public TrackerMatchModule(Match match) {
@@ -60,6 +64,15 @@ public class TrackerMatchModule implements MatchModule {
     damageResolvers.add(new ExplosionDamageResolver());
     damageResolvers.add(new FallingBlockDamageResolver());
     damageResolvers.add(new GenericDamageResolver());
+
+    // Only try the resolvers that can resolve each type of damage, in the same order
+    for (EntityDamageEvent.DamageCause damageType : EntityDamageEvent.DamageCause.values()) {
+      damageResolversByType.put(
+          damageType,
+          damageResolvers.stream()
+              .filter(resolver -> resolver.canResolve(damageType))
+              .toArray(DamageResolver[]::new));
+    }
   }
 
   public Match getMatch() {
@@ -129,7 +142,7 @@ public class TrackerMatchModule implements MatchModule {
     // Filter out observers immediately
     if (match.getParticipant(victim) == null) return new NullDamageInfo();
 
-    for (DamageResolver resolver : damageResolvers) {
+    for (DamageResolver resolver : damageResolversByType.get(damageType)) {
       DamageInfo resolvedInfo = resolver.resolveDamage(damageType, victim, damager);
       if (resolvedInfo != null) {
         return resolvedInfo;
@@ -8,6 +8,12 @@ import tc.oc.pgm.api.tracker.info.PhysicalInfo;
 import tc.oc.pgm.tracker.info.ExplosionInfo;
 
 public class ExplosionDamageResolver implements DamageResolver {
+  @Override
+  public boolean canResolve(EntityDamageEvent.DamageCause damageType) {
+    return damageType == EntityDamageEvent.DamageCause.ENTITY_EXPLOSION
+        || damageType == EntityDamageEvent.DamageCause.BLOCK_EXPLOSION;
+  }
+
   @Override
   public @Nullable ExplosionInfo resolveDamage(
       EntityDamageEvent.DamageCause damageType, Entity victim, @Nullable PhysicalInfo damager) {
@@ -8,6 +8,11 @@ import tc.oc.pgm.api.tracker.info.PhysicalInfo;
 import tc.oc.pgm.tracker.info.FallingBlockInfo;
 
 public class FallingBlockDamageResolver implements DamageResolver {
+  @Override
+  public boolean canResolve(EntityDamageEvent.DamageCause damageType) {
+    return damageType == EntityDamageEvent.DamageCause.FALLING_BLOCK;
+  }
+
   @Override
   public @Nullable FallingBlockInfo resolveDamage(
       EntityDamageEvent.DamageCause damageType, Entity victim, @Nullable PhysicalInfo damager) {
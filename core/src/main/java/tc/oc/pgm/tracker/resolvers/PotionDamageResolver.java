@@ -12,6 +12,18 @@ import tc.oc.pgm.tracker.info.ProjectileInfo;
 
 public class PotionDamageResolver implements DamageResolver {
 
+  @Override
+  public boolean canResolve(EntityDamageEvent.DamageCause damageType) {
+    switch (damageType) {
+      case POISON:
+      case WITHER:
+      case MAGIC:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   @Override
   public @Nullable PotionInfo resolveDamage(
       EntityDamageEvent.DamageCause damageType, Entity victim, @Nullable PhysicalInfo damager) {
@@ -2,8 +2,8 @@ package tc.oc.pgm.tracker.trackers;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import org.bukkit.entity.Entity;
@@ -25,12 +25,17 @@ import tc.oc.pgm.tracker.info.PlayerInfo;
 import tc.oc.pgm.tracker.info.ThrownPotionInfo;
 import tc.oc.util.ClassLogger;
 
-/** Tracks the ownership of {@link Entity}s and resolves damage caused by them */
+/**
+ * Tracks the ownership of {@link Entity}s and resolves damage caused by them.
+ *
+ * <p>Entities are keyed by their id, which is what they are compared by anyway, and is never reused
+ * while the server is running.
+ */
 public class EntityTracker implements Listener {
 
   private final Logger logger;
   private final Match match;
-  private final Map<Entity, TrackerInfo> entities = new HashMap<>();
+  private final TIntObjectMap<TrackerInfo> entities = new TIntObjectHashMap<>();
 
   public EntityTracker(Match match) {
     this.logger = ClassLogger.get(match.getLogger(), getClass());
@@ -55,7 +60,7 @@ public class EntityTracker implements Listener {
       return new PlayerInfo(player);
     }
 
-    TrackerInfo info = entities.get(entity);
+    TrackerInfo info = entities.get(entity.getEntityId());
     if (info instanceof PhysicalInfo) return (PhysicalInfo) info;
 
     ParticipantState owner = info instanceof OwnerInfo ? ((OwnerInfo) info).getOwner() : null;
@@ -63,7 +68,7 @@ public class EntityTracker implements Listener {
   }
 
   public @Nullable TrackerInfo resolveInfo(Entity entity) {
-    return entities.get(checkNotNull(entity));
+    return entities.get(checkNotNull(entity).getEntityId());
   }
 
   public @Nullable <T extends TrackerInfo> T resolveInfo(Entity entity, Class<T> infoType) {
@@ -83,10 +88,10 @@ public class EntityTracker implements Listener {
   public void trackEntity(Entity entity, @Nullable TrackerInfo info) {
     checkNotNull(entity);
     if (info == null) {
-      entities.remove(entity);
+      entities.remove(entity.getEntityId());
       logger.fine("Clear entity=" + entity);
     } else {
-      entities.put(entity, info);
+      entities.put(entity.getEntityId(), info);
       logger.fine("Track entity=" + entity + " info=" + info);
     }
   }
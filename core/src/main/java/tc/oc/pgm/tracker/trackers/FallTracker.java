@@ -1,7 +1,5 @@
 package tc.oc.pgm.tracker.trackers;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import org.bukkit.Location;
@@ -26,12 +24,13 @@ import tc.oc.pgm.spawns.events.ParticipantDespawnEvent;
 import tc.oc.pgm.tracker.TrackerMatchModule;
 import tc.oc.pgm.tracker.info.FallState;
 import tc.oc.pgm.tracker.info.GenericFallInfo;
+import tc.oc.pgm.util.PlayerSlotMap;
 import tc.oc.util.ClassLogger;
 import tc.oc.util.bukkit.material.Materials;
 
 /** Tracks the state of falls caused by other players and resolves the damage caused by them. */
 public class FallTracker implements Listener, DamageResolver {
-  private final Map<MatchPlayer, FallState> falls = new HashMap<>();
+  private final PlayerSlotMap<FallState> falls = new PlayerSlotMap<>();
 
   private final TrackerMatchModule tracker;
   private final Match match;
@@ -43,6 +42,19 @@ public class FallTracker implements Listener, DamageResolver {
     this.logger = ClassLogger.get(match.getLogger(), getClass());
   }
 
+  @Override
+  public boolean canResolve(EntityDamageEvent.DamageCause damageType) {
+    switch (damageType) {
+      case VOID:
+      case FALL:
+      case LAVA:
+      case FIRE_TICK:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   @Override
   public @Nullable FallInfo resolveDamage(
       EntityDamageEvent.DamageCause damageType, Entity victim, @Nullable PhysicalInfo damager) {
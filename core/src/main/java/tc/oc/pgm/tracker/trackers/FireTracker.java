@@ -37,6 +37,18 @@ public class FireTracker extends AbstractTracker<FireInfo> implements DamageReso
     super(FireInfo.class, tmm, match);
   }
 
+  @Override
+  public boolean canResolve(EntityDamageEvent.DamageCause damageType) {
+    switch (damageType) {
+      case FIRE_TICK:
+      case FIRE:
+      case LAVA:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   @Override
   public @Nullable FireInfo resolveDamage(
       EntityDamageEvent.DamageCause damageType, Entity victim, @Nullable PhysicalInfo damager) {
@@ -0,0 +1,105 @@
+package tc.oc.pgm.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import tc.oc.pgm.api.player.MatchPlayer;
+
+/**
+ * A map from players in one match to values, stored by their {@link MatchPlayer#getSlot()}, so
+ * per-player bookkeeping is an array access instead of a hash lookup.
+ *
+ * <p>Players are compared by identity, which is the same as equality for players that are in the
+ * match. Putting a value for a player replaces any value of a player that left the match and had
+ * the same slot.
+ *
+ * @param <V> Type of value.
+ */
+public class PlayerSlotMap<V> {
+
+  private final BitSet slots = new BitSet();
+  private MatchPlayer[] players = new MatchPlayer[16];
+  private Object[] values = new Object[16];
+  private int size;
+
+  private boolean holds(MatchPlayer player, int slot) {
+    return slot < players.length && players[slot] == player;
+  }
+
+  public boolean containsKey(MatchPlayer player) {
+    return holds(player, player.getSlot());
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(MatchPlayer player) {
+    final int slot = player.getSlot();
+    return holds(player, slot) ? (V) values[slot] : null;
+  }
+
+  /**
+   * Set the value of a player.
+   *
+   * @return The previous value of the player, or {@code null} if there was none.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V put(MatchPlayer player, V value) {
+    final int slot = player.getSlot();
+    if (slot >= players.length) {
+      final int capacity = Math.max(slot + 1, players.length * 2);
+      players = Arrays.copyOf(players, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    final V previous = players[slot] == player ? (V) values[slot] : null;
+    if (players[slot] == null) size++;
+
+    players[slot] = player;
+    values[slot] = value;
+    slots.set(slot);
+    return previous;
+  }
+
+  /**
+   * Remove the value of a player.
+   *
+   * @return The value of the player, or {@code null} if there was none.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V remove(MatchPlayer player) {
+    final int slot = player.getSlot();
+    if (!holds(player, slot)) return null;
+
+    final V previous = (V) values[slot];
+    players[slot] = null;
+    values[slot] = null;
+    slots.clear(slot);
+    size--;
+    return previous;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+      players[slot] = null;
+      values[slot] = null;
+    }
+    slots.clear();
+    size = 0;
+  }
+
+  /** Pass every player and their value to the action, in order of their slot. */
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super MatchPlayer, ? super V> action) {
+    for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+      action.accept(players[slot], (V) values[slot]);
+    }
+  }
+}
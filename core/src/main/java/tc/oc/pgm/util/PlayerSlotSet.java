@@ -0,0 +1,119 @@
+package tc.oc.pgm.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import tc.oc.pgm.api.player.MatchPlayer;
+
+/**
+ * A set of players from one match, stored by their {@link MatchPlayer#getSlot()}, so that adding,
+ * removing and checking a player is an array access instead of a hash lookup.
+ *
+ * <p>Players are compared by identity, which is the same as equality for players that are in the
+ * match. Adding a player replaces any player that left the match and had the same slot.
+ */
+public class PlayerSlotSet extends AbstractSet<MatchPlayer> {
+
+  private final BitSet slots = new BitSet();
+  private MatchPlayer[] players = new MatchPlayer[16];
+  private int size;
+  private int modCount;
+
+  private boolean holds(MatchPlayer player, int slot) {
+    return slot < players.length && players[slot] == player;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof MatchPlayer)) return false;
+    final MatchPlayer player = (MatchPlayer) o;
+    return holds(player, player.getSlot());
+  }
+
+  @Override
+  public boolean add(MatchPlayer player) {
+    final int slot = player.getSlot();
+    if (holds(player, slot)) return false;
+
+    if (slot >= players.length) {
+      players = Arrays.copyOf(players, Math.max(slot + 1, players.length * 2));
+    }
+    if (players[slot] == null) size++;
+
+    players[slot] = player;
+    slots.set(slot);
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!(o instanceof MatchPlayer)) return false;
+
+    final int slot = ((MatchPlayer) o).getSlot();
+    if (!holds((MatchPlayer) o, slot)) return false;
+
+    removeSlot(slot);
+    return true;
+  }
+
+  private void removeSlot(int slot) {
+    players[slot] = null;
+    slots.clear(slot);
+    size--;
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+      players[slot] = null;
+    }
+    slots.clear();
+    size = 0;
+    modCount++;
+  }
+
+  /** Iterates players in order of their slot. */
+  @Override
+  public Iterator<MatchPlayer> iterator() {
+    return new Iterator<MatchPlayer>() {
+      private int next = slots.nextSetBit(0);
+      private int last = -1;
+      private int expectedModCount = modCount;
+
+      @Override
+      public boolean hasNext() {
+        return next >= 0;
+      }
+
+      @Override
+      public MatchPlayer next() {
+        if (next < 0) throw new NoSuchElementException();
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+
+        last = next;
+        next = slots.nextSetBit(next + 1);
+        return players[last];
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) throw new IllegalStateException();
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+
+        removeSlot(last);
+        last = -1;
+        expectedModCount = modCount;
+      }
+    };
+  }
+}
@@ -0,0 +1,156 @@
+package tc.oc.pgm.visibility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import tc.oc.pgm.api.match.Match;
+import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.api.match.MatchScope;
+import tc.oc.pgm.api.match.Tickable;
+import tc.oc.pgm.api.player.MatchPlayer;
+import tc.oc.pgm.api.setting.SettingKey;
+import tc.oc.pgm.api.setting.SettingValue;
+import tc.oc.pgm.api.time.Tick;
+import tc.oc.pgm.events.ListenerScope;
+import tc.oc.pgm.events.PlayerPartyChangeEvent;
+import tc.oc.pgm.util.PlayerSlotSet;
+
+/**
+ * Decides which players can see each other, and sends only the changes.
+ *
+ * <p>Players whose visibility may have changed are marked with {@link #invalidate(MatchPlayer)},
+ * and once per tick every pair that involves one of them is compared with what was last sent. Each
+ * pair is a bit in a row of the viewer, indexed by {@link MatchPlayer#getSlot()}.
+ */
+@ListenerScope(MatchScope.LOADED)
+public class VisibilityMatchModule implements MatchModule, Listener, Tickable {
+
+  private final Match match;
+  private final PlayerSlotSet invalid = new PlayerSlotSet();
+
+  // Rows by viewer slot, with a bit for each target slot
+  private BitSet[] shown = new BitSet[0]; // Whether the target was last shown, or hidden
+  private BitSet[] sent = new BitSet[0]; // Whether the bit in shown is known to be applied
+
+  public VisibilityMatchModule(Match match) {
+    this.match = match;
+  }
+
+  /** Check the visibility of a player, both as a viewer and as a target, at the end of the tick. */
+  public void invalidate(MatchPlayer player) {
+    invalid.add(player);
+  }
+
+  private void ensureRows(int slot) {
+    if (slot < shown.length) return;
+
+    final int length = shown.length;
+    shown = Arrays.copyOf(shown, Math.max(slot + 1, length * 2));
+    sent = Arrays.copyOf(sent, shown.length);
+    for (int i = length; i < shown.length; i++) {
+      shown[i] = new BitSet();
+      sent[i] = new BitSet();
+    }
+  }
+
+  /** Forget what was sent to and about a player, so it is all sent again if the slot is reused. */
+  private void forget(MatchPlayer player) {
+    final int slot = player.getSlot();
+    if (slot >= shown.length) return;
+
+    shown[slot].clear();
+    sent[slot].clear();
+    for (int i = 0; i < shown.length; i++) {
+      shown[i].clear(slot);
+      sent[i].clear(slot);
+    }
+  }
+
+  @Override
+  public void tick(Match match, Tick tick) {
+    if (invalid.isEmpty()) return;
+
+    final List<MatchPlayer> players = new ArrayList<>(match.getPlayers());
+    int maxSlot = 0;
+    for (MatchPlayer player : players) {
+      maxSlot = Math.max(maxSlot, player.getSlot());
+    }
+    ensureRows(maxSlot);
+
+    // Same as MatchPlayer#canSee, but only reads each setting once
+    final BitSet visible = new BitSet();
+    final BitSet participating = new BitSet();
+    final BitSet seesObservers = new BitSet();
+    for (MatchPlayer player : players) {
+      final int slot = player.getSlot();
+      visible.set(slot, player.isVisible());
+      participating.set(slot, player.isParticipating());
+      seesObservers.set(
+          slot,
+          player.isObserving()
+              && player.getSettings().getValue(SettingKey.OBSERVERS) == SettingValue.OBSERVERS_ON);
+    }
+
+    for (MatchPlayer player : invalid) {
+      // Players that left during the tick are forgotten, see onPartyChange
+      if (player.getParty() == null) continue;
+
+      for (MatchPlayer other : players) {
+        if (other == player) continue;
+
+        update(player, other, visible, participating, seesObservers);
+        update(other, player, visible, participating, seesObservers);
+      }
+    }
+
+    invalid.clear();
+  }
+
+  private void update(
+      MatchPlayer viewer,
+      MatchPlayer target,
+      BitSet visible,
+      BitSet participating,
+      BitSet seesObservers) {
+    final int viewerSlot = viewer.getSlot();
+    final int targetSlot = target.getSlot();
+    final boolean show =
+        visible.get(targetSlot) && (participating.get(targetSlot) || seesObservers.get(viewerSlot));
+
+    final BitSet sentRow = sent[viewerSlot];
+    final BitSet shownRow = shown[viewerSlot];
+    if (sentRow.get(targetSlot) && shownRow.get(targetSlot) == show) return;
+
+    final Player bukkitViewer = viewer.getBukkit();
+    final Player bukkitTarget = target.getBukkit();
+    if (bukkitViewer == null || bukkitTarget == null) return;
+
+    if (show) {
+      bukkitViewer.showPlayer(bukkitTarget);
+    } else {
+      bukkitViewer.hidePlayer(bukkitTarget);
+    }
+
+    shownRow.set(targetSlot, show);
+    sentRow.set(targetSlot);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPartyChange(final PlayerPartyChangeEvent event) {
+    if (event.getNewParty() == null) {
+      invalid.remove(event.getPlayer());
+      forget(event.getPlayer());
+    }
+  }
+
+  @Override
+  public void unload() {
+    invalid.clear();
+    shown = sent = new BitSet[0];
+  }
+}
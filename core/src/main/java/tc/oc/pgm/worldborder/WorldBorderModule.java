@@ -15,8 +15,10 @@ import tc.oc.pgm.api.map.factory.MapFactory;
 import tc.oc.pgm.api.map.factory.MapModuleFactory;
 import tc.oc.pgm.api.match.Match;
 import tc.oc.pgm.api.match.MatchModule;
+import tc.oc.pgm.filters.FilterModule;
 import tc.oc.pgm.filters.StaticFilter;
 import tc.oc.pgm.filters.TimeFilter;
+import tc.oc.pgm.regions.RegionModule;
 import tc.oc.util.xml.InvalidXMLException;
 import tc.oc.util.xml.Node;
 import tc.oc.util.xml.XMLUtils;
@@ -41,6 +43,11 @@ public class WorldBorderModule implements MapModule {
   }
 
   public static class Factory implements MapModuleFactory<WorldBorderModule> {
+    @Override
+    public Collection<Class<? extends MapModule>> getWeakDependencies() {
+      return ImmutableList.of(RegionModule.class, FilterModule.class);
+    }
+
     @Override
     public WorldBorderModule parse(MapFactory factory, Logger logger, Document doc)
         throws InvalidXMLException {
@@ -1,23 +1,44 @@
 package tc.oc.util.bukkit;
 
-import java.util.WeakHashMap;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
 import org.bukkit.scheduler.BukkitTask;
 import org.joda.time.Duration;
-
+import tc.oc.util.collection.TimingWheel;
+
+/**
+ * Runs tasks on the main thread, from a {@link TimingWheel} that is advanced by a single Bukkit
+ * task. Scheduling and cancelling a task does not touch the Bukkit scheduler, and all tasks can be
+ * cancelled at once with {@link #cancel()}.
+ *
+ * <p>Tasks may be scheduled from any thread, but those scheduled off the main thread are only added
+ * to the wheel on the next tick.
+ */
 public class Scheduler {
+  private static final AtomicInteger nextTaskId = new AtomicInteger();
+
   private final Plugin plugin;
   private final BukkitScheduler bukkitScheduler;
-  private final WeakHashMap<BukkitTask, Object> tasks = new WeakHashMap<>();
-  private boolean cancelled;
+  private final TimingWheel<Task> wheel = new TimingWheel<>();
+  private final Queue<Task> incoming = new ConcurrentLinkedQueue<>();
+  private final BukkitTask driver;
+  private volatile boolean cancelled;
 
   public Scheduler(Plugin plugin, BukkitScheduler scheduler) {
     this.plugin = plugin;
     this.bukkitScheduler = scheduler;
+    this.driver = scheduler.runTaskTimer(plugin, this::tick, 1L, 1L);
   }
 
   public Scheduler(Plugin plugin) {
@@ -28,61 +49,176 @@ public class Scheduler {
     return (duration.getMillis() + 49) / 50;
   }
 
-  private BukkitTask register(final BukkitTask task) {
+  private class Task extends TimingWheel.Entry implements BukkitTask {
+    // Negative, so they never collide with the ids of Bukkit tasks
+    private final int id = nextTaskId.decrementAndGet();
+    private final Runnable runnable;
+    private final long delay;
+    private final long period;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+
+    private Task(Runnable runnable, long delay, long period) {
+      this.runnable = checkNotNull(runnable);
+      this.delay = Math.max(1, delay);
+      this.period = period;
+    }
+
+    private boolean isPending() {
+      return !cancelled && !done;
+    }
+
+    @Override
+    public int getTaskId() {
+      return id;
+    }
+
+    @Override
+    public Plugin getOwner() {
+      return plugin;
+    }
+
+    @Override
+    public boolean isSync() {
+      return true;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      if (plugin.getServer().isPrimaryThread()) {
+        wheel.remove(this);
+      } // Otherwise, it is dropped when it is due
+    }
+
+    @Override
+    public String toString() {
+      return "Task{id=" + id + ", runnable=" + runnable + "}";
+    }
+  }
+
+  private BukkitTask register(Runnable runnable, long delay, long period) {
+    final Task task = new Task(runnable, delay, period);
     if (cancelled) {
       // If the scheduler is cancelled, immediately cancel any task created,
       // but still return it for the sake of consistency.
-      task.cancel();
+      task.cancelled = true;
+    } else if (plugin.getServer().isPrimaryThread()) {
+      wheel.schedule(task, task.delay);
     } else {
-      this.tasks.put(task, null);
+      incoming.add(task);
     }
     return task;
   }
 
+  private void tick() {
+    Task task;
+    while ((task = incoming.poll()) != null) {
+      if (!task.cancelled) wheel.schedule(task, task.delay);
+    }
+
+    wheel.advance(this::run);
+  }
+
+  private void run(Task task) {
+    if (task.cancelled) return;
+
+    try {
+      task.runnable.run();
+    } catch (Throwable t) {
+      plugin
+          .getLogger()
+          .log(
+              Level.WARNING,
+              "Task #" + task.id + " for " + plugin.getName() + " generated an exception",
+              t);
+    }
+
+    // The task may have cancelled itself, or the whole scheduler, while running
+    if (task.period > 0 && !task.cancelled && !cancelled) {
+      wheel.schedule(task, task.period);
+    } else {
+      task.done = true;
+    }
+  }
+
   /**
    * Cancel all currently scheduled tasks and permanently disable the scheduler, so that any future
    * tasks will be cancelled immediately.
    */
   public void cancel() {
-    for (BukkitTask task : this.tasks.keySet()) {
-      task.cancel();
-    }
-    this.tasks.clear();
     this.cancelled = true;
+    this.driver.cancel();
+    this.wheel.forEach(task -> task.cancelled = true);
+    this.wheel.clear();
+    for (Task task : this.incoming) {
+      task.cancelled = true;
+    }
+    this.incoming.clear();
   }
 
   public boolean isPending(BukkitTask task) {
+    if (task instanceof Task) {
+      return ((Task) task).isPending();
+    }
     return this.bukkitScheduler.isQueued(task.getTaskId())
         || this.bukkitScheduler.isCurrentlyRunning(task.getTaskId());
   }
 
+  /**
+   * Count the tasks that are waiting to run, by the top-level class that created them, which is
+   * usually the module that owns them.
+   */
+  public Map<String, Integer> getPendingTaskCounts() {
+    final Map<String, Integer> counts = new TreeMap<>();
+    wheel.forEach(
+        task -> {
+          if (!task.cancelled) counts.merge(getOwnerName(task.runnable), 1, Integer::sum);
+        });
+    for (Task task : incoming) {
+      if (!task.cancelled) counts.merge(getOwnerName(task.runnable), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  private static String getOwnerName(Runnable runnable) {
+    // Lambdas, anonymous and nested classes are all named after their enclosing class
+    String name = runnable.getClass().getName();
+    final int nested = name.indexOf('$');
+    if (nested >= 0) name = name.substring(0, nested);
+    return name.substring(name.lastIndexOf('.') + 1);
+  }
+
   public BukkitTask runTask(Runnable task) {
-    return this.register(this.bukkitScheduler.runTask(this.plugin, task));
+    return this.register(task, 1, 0);
   }
 
   public BukkitTask runTaskLater(long delay, Runnable task) {
-    return this.register(this.bukkitScheduler.runTaskLater(this.plugin, task, delay));
+    return this.register(task, delay, 0);
   }
 
   public BukkitTask runTaskLater(Duration delay, Runnable task) {
-    return this.register(this.bukkitScheduler.runTaskLater(this.plugin, task, ticks(delay)));
+    return this.register(task, ticks(delay), 0);
   }
 
   public BukkitTask runTaskTimer(long interval, Runnable task) {
-    return this.register(this.bukkitScheduler.runTaskTimer(this.plugin, task, 0L, interval));
+    return this.register(task, 0L, Math.max(1, interval));
   }
 
   public BukkitTask runTaskTimer(long delay, long interval, Runnable task) {
-    return this.register(this.bukkitScheduler.runTaskTimer(this.plugin, task, delay, interval));
+    return this.register(task, delay, Math.max(1, interval));
   }
 
   public BukkitTask runTaskTimer(Duration interval, Runnable task) {
-    return this.register(this.bukkitScheduler.runTaskTimer(this.plugin, task, 0L, ticks(interval)));
+    return this.register(task, 0L, Math.max(1, ticks(interval)));
   }
 
   public BukkitTask runTaskTimer(Duration delay, Duration interval, Runnable task) {
-    return this.register(
-        this.bukkitScheduler.runTaskTimer(this.plugin, task, ticks(delay), ticks(interval)));
+    return this.register(task, ticks(delay), Math.max(1, ticks(interval)));
   }
 
   public <T> Future<T> runMainThread(Callable<T> task) {
@@ -2,6 +2,8 @@ package tc.oc.util.xml;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.*;
 import com.google.gson.JsonParseException;
 import java.io.File;
@@ -14,8 +16,10 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
@@ -228,10 +232,32 @@ public class XMLUtils {
     return attr == null ? def : parseBoolean(new Node(attr));
   }
 
+  private static final int MAX_CACHED_VALUES = 4096;
+
+  // Map documents repeat the same numbers and coordinates many times, and several documents are
+  // parsed at once, so values that parsed successfully are shared between all of them
+  private static final Map<Class<?>, Cache<String, Number>> NUMBERS = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Cache<String, Number>> NUMBERS_OR_INFINITY =
+      new ConcurrentHashMap<>();
+  private static final Cache<String, Vector> VECTORS = newValueCache();
+  private static final Cache<String, Vector> VECTORS_2D = newValueCache();
+  private static final Cache<String, BlockVector> BLOCK_VECTORS = newValueCache();
+
+  private static <V> Cache<String, V> newValueCache() {
+    return CacheBuilder.newBuilder().maximumSize(MAX_CACHED_VALUES).build();
+  }
+
   public static <T extends Number> T parseNumber(
       Node node, String text, Class<T> type, boolean infinity) throws InvalidXMLException {
+    final Cache<String, Number> cache =
+        (infinity ? NUMBERS_OR_INFINITY : NUMBERS).computeIfAbsent(type, t -> newValueCache());
+    final Number cached = cache.getIfPresent(text);
+    if (cached != null) return type.cast(cached);
+
     try {
-      return Numbers.parse(text, type, infinity);
+      final T value = Numbers.parse(text, type, infinity);
+      cache.put(text, value);
+      return value;
     } catch (NumberFormatException e) {
       throw new InvalidXMLException("Invalid number '" + text + "'", node);
     }
@@ -527,18 +553,27 @@ public class XMLUtils {
     }
   }
 
+  private static final Pattern VECTOR_SEPARATOR = Pattern.compile("\\s*,\\s*");
+
   public static Vector parseVector(Node node, String value) throws InvalidXMLException {
     if (node == null) return null;
 
-    String[] components = value.trim().split("\\s*,\\s*");
+    // Vectors are mutable, so the cache only ever hands out copies
+    final Vector cached = VECTORS.getIfPresent(value);
+    if (cached != null) return cached.clone();
+
+    String[] components = VECTOR_SEPARATOR.split(value.trim());
     if (components.length != 3) {
       throw new InvalidXMLException("Invalid vector format", node);
     }
     try {
-      return new Vector(
-          parseNumber(node, components[0], Double.class, true),
-          parseNumber(node, components[1], Double.class, true),
-          parseNumber(node, components[2], Double.class, true));
+      final Vector vector =
+          new Vector(
+              parseNumber(node, components[0], Double.class, true),
+              parseNumber(node, components[1], Double.class, true),
+              parseNumber(node, components[2], Double.class, true));
+      VECTORS.put(value, vector.clone());
+      return vector;
     } catch (NumberFormatException e) {
       throw new InvalidXMLException("Invalid vector format", node);
     }
@@ -565,15 +600,21 @@ public class XMLUtils {
   }
 
   public static Vector parse2DVector(Node node, String value) throws InvalidXMLException {
-    String[] components = value.trim().split("\\s*,\\s*");
+    final Vector cached = VECTORS_2D.getIfPresent(value);
+    if (cached != null) return cached.clone();
+
+    String[] components = VECTOR_SEPARATOR.split(value.trim());
     if (components.length != 2) {
       throw new InvalidXMLException("Invalid 2D vector format", node);
     }
     try {
-      return new Vector(
-          parseNumber(node, components[0], Double.class, true),
-          0d,
-          parseNumber(node, components[1], Double.class, true));
+      final Vector vector =
+          new Vector(
+              parseNumber(node, components[0], Double.class, true),
+              0d,
+              parseNumber(node, components[1], Double.class, true));
+      VECTORS_2D.put(value, vector.clone());
+      return vector;
     } catch (NumberFormatException e) {
       throw new InvalidXMLException("Invalid 2D vector format", node);
     }
@@ -591,15 +632,22 @@ public class XMLUtils {
       throws InvalidXMLException {
     if (node == null) return def;
 
-    String[] components = node.getValue().trim().split("\\s*,\\s*");
+    final String value = node.getValue();
+    final BlockVector cached = BLOCK_VECTORS.getIfPresent(value);
+    if (cached != null) return cached.clone();
+
+    String[] components = VECTOR_SEPARATOR.split(value.trim());
     if (components.length != 3) {
       throw new InvalidXMLException("Invalid block location", node);
     }
     try {
-      return new BlockVector(
-          Integer.parseInt(components[0]),
-          Integer.parseInt(components[1]),
-          Integer.parseInt(components[2]));
+      final BlockVector vector =
+          new BlockVector(
+              Integer.parseInt(components[0]),
+              Integer.parseInt(components[1]),
+              Integer.parseInt(components[2]));
+      BLOCK_VECTORS.put(value, vector.clone());
+      return vector;
     } catch (NumberFormatException e) {
       throw new InvalidXMLException("Invalid block location", node);
     }
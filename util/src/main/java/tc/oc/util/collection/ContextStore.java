@@ -12,7 +12,7 @@ public class ContextStore<T> implements Iterable<Entry<String, T>> {
     return this.store.entrySet().iterator();
   }
 
-  public boolean contains(String name) {
+  public synchronized boolean contains(String name) {
     return store.containsKey(name);
   }
 
@@ -22,7 +22,7 @@ public class ContextStore<T> implements Iterable<Entry<String, T>> {
    * @param obj Object to add.
    * @return Randomly generated name for this object.
    */
-  public String add(T obj) {
+  public synchronized String add(T obj) {
     while (true) {
       String name = UUID.randomUUID().toString();
       try {
@@ -40,7 +40,7 @@ public class ContextStore<T> implements Iterable<Entry<String, T>> {
    * @param name Name for this object.
    * @param obj Object to add.
    */
-  public void add(String name, T obj) {
+  public synchronized void add(String name, T obj) {
     T old = store.put(name, obj);
     if (old != null && old != obj) {
       store.put(name, old);
@@ -55,7 +55,7 @@ public class ContextStore<T> implements Iterable<Entry<String, T>> {
    * @param name Name to look up.
    * @return Object that was registered to the given name or null if none exists.
    */
-  public T get(String name) {
+  public synchronized T get(String name) {
     return this.store.get(name);
   }
 
@@ -66,7 +66,7 @@ public class ContextStore<T> implements Iterable<Entry<String, T>> {
    * @return Name for the object or null if none is found.
    * @note This method will look up the exact equality operator then the .equals method.
    */
-  public String getName(T obj) {
+  public synchronized String getName(T obj) {
     for (Entry<String, T> entry : this.store.entrySet()) {
       if (entry.getValue() == obj || entry.getValue().equals(obj)) {
         return entry.getKey();
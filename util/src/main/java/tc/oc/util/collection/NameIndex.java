@@ -0,0 +1,182 @@
+package tc.oc.util.collection;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import tc.oc.util.LiquidMetal;
+
+/**
+ * An index of values by name, which supports exact, prefix and fuzzy lookups without building a new
+ * collection of names for each query. Names are case insensitive.
+ *
+ * <p>Names are kept sorted, so a prefix lookup only visits the names with that prefix. A fuzzy
+ * lookup scores names with {@link LiquidMetal}, but first skips any name that does not contain
+ * every character of the query, since those can never match. The index is thread safe.
+ *
+ * @param <T> Type of value in the index.
+ */
+public class NameIndex<T> {
+
+  private static class Node<T> {
+    private final String name;
+    private final long mask;
+    private final Set<T> values = new LinkedHashSet<>(2);
+
+    private Node(String name) {
+      this.name = name;
+      this.mask = mask(name);
+    }
+  }
+
+  private final NavigableMap<String, Node<T>> nodes = new TreeMap<>();
+
+  /** A set of bits for the characters in a string, used to rule out names quickly. */
+  private static long mask(String string) {
+    long mask = 0;
+    for (int i = 0; i < string.length(); i++) {
+      final char c = Character.toLowerCase(string.charAt(i));
+      if (c >= 'a' && c <= 'z') {
+        mask |= 1L << (c - 'a');
+      } else if (c >= '0' && c <= '9') {
+        mask |= 1L << (26 + c - '0');
+      } else if (c == '_') {
+        mask |= 1L << 36;
+      } else {
+        mask |= 1L << 63;
+      }
+    }
+    return mask;
+  }
+
+  private static String key(String name) {
+    return name.toLowerCase();
+  }
+
+  /** Add a value under a name, which may be shared with other values. */
+  public synchronized void add(String name, T value) {
+    checkNotNull(value);
+    nodes.computeIfAbsent(key(name), key -> new Node<>(name)).values.add(value);
+  }
+
+  /** Remove a value from under a name, if it is there. */
+  public synchronized boolean remove(String name, T value) {
+    final String key = key(name);
+    final Node<T> node = nodes.get(key);
+    if (node == null || !node.values.remove(value)) return false;
+
+    if (node.values.isEmpty()) {
+      nodes.remove(key);
+    }
+    return true;
+  }
+
+  public synchronized void clear() {
+    nodes.clear();
+  }
+
+  /** Number of distinct names in the index. */
+  public synchronized int size() {
+    return nodes.size();
+  }
+
+  /** Get the values with exactly the given name, ignoring case. */
+  public synchronized List<T> getExact(String name) {
+    final Node<T> node = nodes.get(key(name));
+    return node == null ? Collections.emptyList() : new ArrayList<>(node.values);
+  }
+
+  /** Pass every value whose name starts with a prefix, and that name, to an action. */
+  public synchronized void forEachPrefix(String prefix, BiConsumer<String, ? super T> action) {
+    final String key = key(prefix);
+    for (Node<T> node : nodes.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+      for (T value : node.values) {
+        action.accept(node.name, value);
+      }
+    }
+  }
+
+  /** Get the values whose name starts with a prefix, in order of their names. */
+  public List<T> getByPrefix(String prefix) {
+    final List<T> values = new ArrayList<>();
+    forEachPrefix(prefix, (name, value) -> values.add(value));
+    return values;
+  }
+
+  /**
+   * Get the value whose name best matches a query, with the same scoring and tie breaking as {@code
+   * StringUtils#bestFuzzyMatch}.
+   *
+   * @param query The query, such as part of a name or an abbreviation.
+   * @param threshold The minimum score of a match, between 0 and 1.
+   * @return The best match, or null if there is none, or if several are equally good.
+   */
+  public @Nullable T bestFuzzyMatch(String query, double threshold) {
+    return bestFuzzyMatch(query, threshold, value -> true);
+  }
+
+  /**
+   * Get the value whose name best matches a query, only considering values that pass a filter.
+   *
+   * @see #bestFuzzyMatch(String, double)
+   */
+  public @Nullable T bestFuzzyMatch(String query, double threshold, Predicate<? super T> filter) {
+    return bestFuzzyMatch(query, threshold, filter, Collections.emptyMap());
+  }
+
+  /**
+   * Get the value whose name best matches a query, only considering values that pass a filter, and
+   * also scoring values by names that are not in the index.
+   *
+   * @param others Values by names that are not in the index, such as names only some viewers see.
+   * @see #bestFuzzyMatch(String, double)
+   */
+  public synchronized @Nullable T bestFuzzyMatch(
+      String query,
+      double threshold,
+      Predicate<? super T> filter,
+      Map<String, ? extends T> others) {
+    final long mask = mask(query);
+
+    T best = null;
+    double bestScore = 0.0;
+    for (Node<T> node : nodes.values()) {
+      if ((node.mask & mask) != mask) continue;
+
+      final double score = LiquidMetal.score(node.name, query);
+      for (T value : node.values) {
+        if (!filter.test(value)) continue;
+
+        if (score > bestScore) {
+          best = value;
+          bestScore = score;
+        } else if (score == bestScore) {
+          best = null;
+        }
+      }
+    }
+
+    for (Map.Entry<String, ? extends T> entry : others.entrySet()) {
+      if ((mask(entry.getKey()) & mask) != mask) continue;
+
+      final double score = LiquidMetal.score(entry.getKey(), query);
+      if (score > bestScore) {
+        best = entry.getValue();
+        bestScore = score;
+      } else if (score == bestScore) {
+        best = null;
+      }
+    }
+
+    return bestScore < threshold ? null : best;
+  }
+}
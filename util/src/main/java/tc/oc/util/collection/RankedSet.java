@@ -19,16 +19,21 @@ import java.util.*;
  *
  * <p>The elements are lazily sorted and cached whenever a method is called that depends on the
  * ranking order. These methods are {@link #iterator}, {@link #getPosition}, and {@link #getRank}.
- * The cache is invalidated whenever the collection is changed, or {@link #invalidateRanking} is
- * called.
+ * The cache is invalidated whenever several elements are changed at once, or {@link
+ * #invalidateRanking()} is called. Once sorted, adding or removing a single element, or calling
+ * {@link #invalidateRanking(Object)} after the ordering of one element changes, moves only that
+ * element, with a binary search, and does not sort or compare the other elements again.
  */
 public class RankedSet<E> extends ForwardingSet<E> {
 
   private final Comparator<E> comparator;
   private final Set<E> set;
   private final List<E> list = new ArrayList<>();
+  // Whether each element of the sorted list compares greater than the one before it
+  private final BitSet rankStarts = new BitSet();
   private final TObjectIntMap<E> rankByElement =
       new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1);
+  // Built on demand, and never changed once returned
   private final List<Set<E>> ranks = new ArrayList<>();
   private boolean sorted;
 
@@ -51,29 +56,94 @@ public class RankedSet<E> extends ForwardingSet<E> {
 
     Collections.sort(list, comparator);
 
-    if (!list.isEmpty()) {
-      Set<E> rank = null;
-      E last = null;
-      for (E e : list) {
-        if (last == null || comparator.compare(last, e) != 0) {
-          ranks.add(rank = new HashSet<>());
-        }
-        rank.add(e);
-        rankByElement.put(e, ranks.size() - 1);
-        last = e;
-      }
+    rankStarts.clear();
+    for (int i = 0; i < list.size(); i++) {
+      rankStarts.set(i, i == 0 || comparator.compare(list.get(i - 1), list.get(i)) != 0);
     }
+    updatePositions(0);
 
     sorted = true;
     return true;
   }
 
+  /** Recalculate the position of every element from the given index of the sorted list onward. */
+  private void updatePositions(int from) {
+    int rank = from == 0 ? -1 : rankByElement.get(list.get(from - 1));
+    for (int i = from; i < list.size(); i++) {
+      if (rankStarts.get(i)) rank++;
+      rankByElement.put(list.get(i), rank);
+    }
+    ranks.clear();
+  }
+
+  /** Remove the element at an index of the sorted list, which stays sorted. */
+  private void removeSorted(int index) {
+    // The elements either side of the removed one were only equal if both were equal to it
+    final boolean starts = rankStarts.get(index) || rankStarts.get(index + 1);
+
+    list.remove(index);
+    for (int i = index; i < list.size(); i++) {
+      rankStarts.set(i, rankStarts.get(i + 1));
+    }
+    rankStarts.clear(list.size());
+    if (index < list.size()) rankStarts.set(index, starts);
+  }
+
+  /**
+   * Insert an element into the sorted list, after the elements that compare lower than it and
+   * before those that compare higher.
+   *
+   * @param hint Where to insert the element among the elements that compare equal to it, as an
+   *     index of the sorted list.
+   * @return The index the element was inserted at.
+   */
+  private int insertSorted(E e, int hint) {
+    int low = 0;
+    int high = list.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (comparator.compare(list.get(mid), e) < 0) low = mid + 1;
+      else high = mid;
+    }
+    final int first = low;
+
+    high = list.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (comparator.compare(list.get(mid), e) <= 0) low = mid + 1;
+      else high = mid;
+    }
+    final int last = low;
+
+    final int index = Math.max(first, Math.min(hint, last));
+    list.add(index, e);
+    for (int i = list.size() - 1; i > index; i--) {
+      rankStarts.set(i, rankStarts.get(i - 1));
+    }
+    rankStarts.set(index, index == first);
+    if (index + 1 < list.size()) rankStarts.set(index + 1, index == last);
+    return index;
+  }
+
   public void invalidateRanking() {
     sorted = false;
     ranks.clear();
     rankByElement.clear();
   }
 
+  /**
+   * Reposition a single element whose ordering has changed, while the ordering of every other
+   * element stays the same. Elements that compare equal to it keep their order relative to it, as
+   * if the whole set had been sorted again.
+   */
+  public void invalidateRanking(E e) {
+    if (!sorted || !rankByElement.containsKey(e)) return;
+
+    final int index = list.indexOf(e);
+    removeSorted(index);
+    updatePositions(Math.min(index, insertSorted(e, index)));
+  }
+
   /**
    * Return the position of the given element in the ranking, or -1 if the element is not present.
    */
@@ -88,6 +158,13 @@ public class RankedSet<E> extends ForwardingSet<E> {
    */
   public Set<E> getRank(int rank) {
     freshenRanking();
+    if (ranks.isEmpty()) {
+      Set<E> current = null;
+      for (int i = 0; i < list.size(); i++) {
+        if (rankStarts.get(i)) ranks.add(current = new HashSet<>());
+        current.add(list.get(i));
+      }
+    }
     return rank < ranks.size() ? ranks.get(rank) : Collections.<E>emptySet();
   }
 
@@ -105,16 +182,29 @@ public class RankedSet<E> extends ForwardingSet<E> {
 
   @Override
   public boolean add(E e) {
-    list.add(e);
-    invalidateRanking();
-    return super.add(e);
+    if (!super.add(e)) return false;
+
+    if (sorted) {
+      updatePositions(insertSorted(e, list.size()));
+    } else {
+      list.add(e);
+    }
+    return true;
   }
 
   @Override
   public boolean remove(Object e) {
-    list.remove(e);
-    invalidateRanking();
-    return super.remove(e);
+    if (!super.remove(e)) return false;
+
+    final int index = list.indexOf(e);
+    if (sorted) {
+      removeSorted(index);
+      rankByElement.remove(e);
+      updatePositions(index);
+    } else {
+      list.remove(index);
+    }
+    return true;
   }
 
   @Override
@@ -0,0 +1,202 @@
+package tc.oc.util.collection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel, which holds entries until a number of ticks have passed. Scheduling
+ * and removing an entry takes constant time, and advancing the wheel only touches entries that are
+ * due, or that move to a finer level of the wheel.
+ *
+ * <p>Entries are linked into the wheel directly, so users extend {@link Entry} instead of having
+ * their objects wrapped. Each level has 64 slots, and there are 4 levels, so entries due within
+ * 2^24 ticks are placed in a slot and anything later waits in an overflow list. The wheel is not
+ * thread safe.
+ *
+ * @param <E> Type of entry held by the wheel.
+ */
+public class TimingWheel<E extends TimingWheel.Entry> {
+
+  private static final int BITS = 6;
+  private static final int SLOTS = 1 << BITS;
+  private static final int MASK = SLOTS - 1;
+  private static final int LEVELS = 4;
+
+  /** Something that can be scheduled in a {@link TimingWheel}, at most once at a time. */
+  public static class Entry {
+    private Entry prev, next;
+    private long due;
+
+    /** Whether the entry is currently scheduled in a wheel. */
+    public boolean isScheduled() {
+      return next != null;
+    }
+
+    private void unlink() {
+      prev.next = next;
+      next.prev = prev;
+      prev = next = null;
+    }
+
+    private void linkBefore(Entry head) {
+      prev = head.prev;
+      next = head;
+      head.prev.next = this;
+      head.prev = this;
+    }
+  }
+
+  private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+  private final Entry overflow = sentinel();
+  private long time;
+  private int size;
+
+  public TimingWheel() {
+    for (int level = 0; level < LEVELS; level++) {
+      for (int slot = 0; slot < SLOTS; slot++) {
+        slots[level][slot] = sentinel();
+      }
+    }
+  }
+
+  private static Entry sentinel() {
+    final Entry sentinel = new Entry();
+    sentinel.prev = sentinel.next = sentinel;
+    return sentinel;
+  }
+
+  /** Number of times the wheel has advanced. */
+  public long getTime() {
+    return time;
+  }
+
+  /** Number of entries that are scheduled. */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Schedule an entry.
+   *
+   * @param entry An entry that is not already scheduled.
+   * @param delay Number of times the wheel must advance before the entry is due, at least one.
+   */
+  public void schedule(E entry, long delay) {
+    checkArgument(delay > 0, "delay must be positive");
+    checkState(!entry.isScheduled(), "entry is already scheduled");
+
+    final Entry node = entry; // Private members are not visible through E
+    node.due = time + delay;
+    insert(node);
+    size++;
+  }
+
+  /**
+   * Remove an entry from the wheel, if it is scheduled.
+   *
+   * @return Whether the entry was scheduled.
+   */
+  public boolean remove(E entry) {
+    if (!entry.isScheduled()) return false;
+
+    ((Entry) entry).unlink();
+    size--;
+    return true;
+  }
+
+  /** Place an entry in the finest level whose current revolution includes the time it is due. */
+  private void insert(Entry entry) {
+    final long due = entry.due;
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = BITS * (level + 1);
+      if (due >>> shift == time >>> shift) {
+        entry.linkBefore(slots[level][(int) (due >>> (BITS * level)) & MASK]);
+        return;
+      }
+    }
+    entry.linkBefore(overflow);
+  }
+
+  /** Re-insert every entry in a list, which may put them back in the same list. */
+  private void cascade(Entry head) {
+    if (head.next == head) return;
+
+    // Detach the whole list first, so re-inserted entries are not visited again
+    Entry entry = head.next;
+    head.prev.next = null;
+    head.prev = head.next = head;
+
+    while (entry != null) {
+      final Entry next = entry.next;
+      entry.prev = entry.next = null;
+      insert(entry);
+      entry = next;
+    }
+  }
+
+  /**
+   * Advance the wheel by one tick, removing the entries that are now due and passing each of them
+   * to the action. The action may schedule them, or any other entry, again.
+   */
+  @SuppressWarnings("unchecked")
+  public void advance(Consumer<? super E> action) {
+    time++;
+
+    // Move entries down from coarser levels whose current slot has just changed
+    for (int level = LEVELS; level > 0; level--) {
+      if ((time & ((1L << (BITS * level)) - 1)) == 0) {
+        cascade(level == LEVELS ? overflow : slots[level][(int) (time >>> (BITS * level)) & MASK]);
+      }
+    }
+
+    final Entry head = slots[0][(int) time & MASK];
+    Entry entry;
+    while ((entry = head.next) != head) {
+      entry.unlink();
+      size--;
+      action.accept((E) entry);
+    }
+  }
+
+  /** Pass every scheduled entry to the action, in no particular order. */
+  @SuppressWarnings("unchecked")
+  public void forEach(Consumer<? super E> action) {
+    for (Entry[] level : slots) {
+      for (Entry head : level) {
+        for (Entry entry = head.next; entry != head; entry = entry.next) {
+          action.accept((E) entry);
+        }
+      }
+    }
+    for (Entry entry = overflow.next; entry != overflow; entry = entry.next) {
+      action.accept((E) entry);
+    }
+  }
+
+  /** Remove every scheduled entry. */
+  public void clear() {
+    for (Entry[] level : slots) {
+      for (Entry head : level) {
+        clear(head);
+      }
+    }
+    clear(overflow);
+    size = 0;
+  }
+
+  private static void clear(Entry head) {
+    Entry entry = head.next;
+    while (entry != head) {
+      final Entry next = entry.next;
+      entry.prev = entry.next = null;
+      entry = next;
+    }
+    head.prev = head.next = head;
+  }
+}
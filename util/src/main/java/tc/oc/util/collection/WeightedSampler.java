@@ -0,0 +1,164 @@
+package tc.oc.util.collection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nullable;
+
+/**
+ * A fixed set of elements with mutable weights, which can be randomly sampled in proportion to
+ * their weight. Weights are stored in a Fenwick tree, so updating a weight and drawing a sample are
+ * both O(log n).
+ *
+ * <p>Elements with a weight of zero are never sampled. Sampling takes an explicit {@link Random},
+ * so results are reproducible from a seed.
+ */
+public class WeightedSampler<E> {
+
+  private final List<E> elements;
+  private final TObjectIntMap<E> indices;
+  private final double[] weights;
+  private final double[] tree; // 1-based, tree[i] is the sum of a range of weights ending at i
+
+  public WeightedSampler(Collection<? extends E> elements) {
+    this.elements = new ArrayList<>(checkNotNull(elements));
+    this.indices =
+        new TObjectIntHashMap<>(
+            this.elements.size(),
+            Constants.DEFAULT_LOAD_FACTOR,
+            Constants.DEFAULT_INT_NO_ENTRY_VALUE);
+    this.weights = new double[this.elements.size()];
+    this.tree = new double[this.elements.size() + 1];
+
+    for (int i = 0; i < this.elements.size(); i++) {
+      checkArgument(
+          indices.put(this.elements.get(i), i + 1) == Constants.DEFAULT_INT_NO_ENTRY_VALUE,
+          "duplicate element");
+    }
+  }
+
+  public int size() {
+    return elements.size();
+  }
+
+  public boolean contains(E element) {
+    return indices.containsKey(element);
+  }
+
+  private int indexOf(E element) {
+    final int index = indices.get(element) - 1;
+    if (index < 0) {
+      throw new IllegalArgumentException("Unknown element " + element);
+    }
+    return index;
+  }
+
+  public double getWeight(E element) {
+    return weights[indexOf(element)];
+  }
+
+  public double getTotalWeight() {
+    double sum = 0;
+    for (int i = tree.length - 1; i > 0; i -= i & -i) {
+      sum += tree[i];
+    }
+    return Math.max(sum, 0);
+  }
+
+  /**
+   * Change the weight of an element.
+   *
+   * @param element An element in the sampler.
+   * @param weight A non-negative weight.
+   */
+  public void setWeight(E element, double weight) {
+    checkArgument(
+        weight >= 0 && !Double.isInfinite(weight), "weight must be finite and non-negative");
+    final int index = indexOf(element);
+    final double delta = weight - weights[index];
+    if (delta == 0) return;
+
+    weights[index] = weight;
+    for (int i = index + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  private int find(double target) {
+    int index = 0;
+    for (int step = Integer.highestOneBit(elements.size()); step > 0; step >>= 1) {
+      final int next = index + step;
+      if (next < tree.length && tree[next] <= target) {
+        index = next;
+        target -= tree[next];
+      }
+    }
+
+    // Rounding errors can land past the last element or on an empty one, so walk back
+    index = Math.min(index, elements.size() - 1);
+    while (index > 0 && weights[index] <= 0) index--;
+    return index;
+  }
+
+  /**
+   * Randomly pick an element in proportion to its weight.
+   *
+   * @param random A source of randomness.
+   * @return An element, or {@code null} if no element has a positive weight.
+   */
+  public @Nullable E sample(Random random) {
+    final double total = getTotalWeight();
+    if (total <= 0) return null;
+
+    final int index = find(random.nextDouble() * total);
+    return weights[index] > 0 ? elements.get(index) : null;
+  }
+
+  /**
+   * Randomly pick up to {@code count} distinct elements in proportion to their weight, without
+   * replacement. The weights are the same as before once this returns.
+   *
+   * @param random A source of randomness.
+   * @param count The maximum number of elements to pick.
+   * @return A list of elements in the order they were picked.
+   */
+  public List<E> sample(Random random, int count) {
+    final List<E> picked = new ArrayList<>(Math.min(count, elements.size()));
+    final double[] removed = new double[Math.min(count, elements.size())];
+
+    try {
+      while (picked.size() < count) {
+        final E element = sample(random);
+        if (element == null) break;
+
+        removed[picked.size()] = getWeight(element);
+        picked.add(element);
+        setWeight(element, 0);
+      }
+    } finally {
+      for (int i = 0; i < picked.size(); i++) {
+        setWeight(picked.get(i), removed[i]);
+      }
+    }
+
+    return picked;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + "{elements="
+        + elements
+        + ", weights="
+        + Arrays.toString(weights)
+        + "}";
+  }
+}
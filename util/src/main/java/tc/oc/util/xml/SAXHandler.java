@@ -1,5 +1,9 @@
 package tc.oc.util.xml;
 
+import java.util.HashMap;
+import java.util.Map;
+import org.jdom2.Attribute;
+import org.jdom2.AttributeType;
 import org.jdom2.Element;
 import org.jdom2.Namespace;
 import org.jdom2.input.sax.SAXHandlerFactory;
@@ -7,11 +11,25 @@ import org.jdom2.located.LocatedJDOMFactory;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 
+/**
+ * Builds {@link InheritingElement}s that know their line numbers.
+ *
+ * <p>Element names, attribute names and short attribute values are pooled for each document, since
+ * map documents repeat the same handful of strings thousands of times.
+ */
 public class SAXHandler extends org.jdom2.input.sax.SAXHandler {
-  public static final SAXHandlerFactory FACTORY = factory -> new SAXHandler();
+  public static final SAXHandlerFactory FACTORY = factory -> new SAXHandler(new JDOMFactory());
 
-  private SAXHandler() {
-    super(new JDOMFactory());
+  private final JDOMFactory factory;
+
+  private SAXHandler(JDOMFactory factory) {
+    super(factory);
+    this.factory = factory;
+  }
+
+  @Override
+  protected void resetSubCLass() {
+    if (factory != null) factory.strings.clear(); // Called by the super constructor
   }
 
   @Override
@@ -28,24 +46,44 @@ public class SAXHandler extends org.jdom2.input.sax.SAXHandler {
   }
 
   private static class JDOMFactory extends LocatedJDOMFactory {
+    private static final int MAX_POOLED_LENGTH = 64;
+
+    private final Map<String, String> strings = new HashMap<>();
+
+    private String pool(String string) {
+      if (string == null || string.length() > MAX_POOLED_LENGTH) return string;
+      final String pooled = strings.putIfAbsent(string, string);
+      return pooled == null ? string : pooled;
+    }
+
     @Override
     public Element element(int line, int col, String name, Namespace namespace) {
-      return new InheritingElement(name, namespace);
+      return new InheritingElement(pool(name), namespace);
     }
 
     @Override
     public Element element(int line, int col, String name) {
-      return new InheritingElement(name);
+      return new InheritingElement(pool(name));
     }
 
     @Override
     public Element element(int line, int col, String name, String uri) {
-      return new InheritingElement(name, uri);
+      return new InheritingElement(pool(name), uri);
     }
 
     @Override
     public Element element(int line, int col, String name, String prefix, String uri) {
-      return new InheritingElement(name, prefix, uri);
+      return new InheritingElement(pool(name), prefix, uri);
+    }
+
+    @Override
+    public Attribute attribute(String name, String value, AttributeType type, Namespace namespace) {
+      return super.attribute(pool(name), pool(value), type, namespace);
+    }
+
+    @Override
+    public Attribute attribute(String name, String value, Namespace namespace) {
+      return super.attribute(pool(name), pool(value), namespace);
     }
   }
 }